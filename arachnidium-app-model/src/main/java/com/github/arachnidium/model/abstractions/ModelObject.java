@@ -118,7 +118,8 @@ public abstract class ModelObject<S extends Handle> implements IDestroyable,
 	protected ModelObject(S handle) {
 		this.handle = handle;
 		driverEncapsulation = handle.driverEncapsulation;
-		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver());
+		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver(),
+				driverEncapsulation::getPollingStrategy);
 		logs = driverEncapsulation.getComponent(DriverLogs.class);
 		checkInExceptionHandlers(UsedImplicitExceptionHandlerReader.getDeclaredExceptionHandlers(this.getClass()));
 	}
@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
@@ -25,6 +26,7 @@ public abstract class ModelObjectExceptionHandler implements
 IModelObjectExceptionHandler {
 	private List<Class<? extends Throwable>> throwableList = new ArrayList<Class<? extends Throwable>>();
 	private String expectedMessagePattern;
+	private Pattern compiledMessagePattern;
 
 	/**
 	 * @param tClass is the class of exception which should be caught and
@@ -42,7 +44,7 @@ IModelObjectExceptionHandler {
 		if (expectectedThrowables.length != 0){
 			ExpectectedThrowables et = expectectedThrowables[0];
 			throwableList.addAll(Arrays.asList(et.expectedThrowables()));
-			expectedMessagePattern = et.messagePattern();
+			setExpectedMessagePattern(et.messagePattern());
 		}
 	}
 	
@@ -71,9 +73,13 @@ IModelObjectExceptionHandler {
 	 * 
 	 * @param expectedMessagePattern  is the regular expression that helps to detect the matching of a message text 
 	 * of a caught exception
+	 * @throws PatternSyntaxException if the expression is invalid
 	 */
 	public void setExpectedMessagePattern(String expectedMessagePattern){
 		this.expectedMessagePattern = expectedMessagePattern;
+		compiledMessagePattern = null;
+		if (expectedMessagePattern != null)
+			compiledMessagePattern = Pattern.compile(expectedMessagePattern);
 	}
 	
 	/**
@@ -91,10 +97,9 @@ IModelObjectExceptionHandler {
 	 * @return <code>true</code> when here is string pattern and {@link Throwable} message text matches to it.  
 	 */
 	public boolean doesExceptionMessageMatch(Throwable givenThrowable){
-		if (expectedMessagePattern == null)
+		if (compiledMessagePattern == null)
 			return false;
-		Pattern p = Pattern.compile(expectedMessagePattern);
-		Matcher m = p.matcher(givenThrowable.getMessage());
+		Matcher m = compiledMessagePattern.matcher(givenThrowable.getMessage());
 		return m.find();
 	}
 }
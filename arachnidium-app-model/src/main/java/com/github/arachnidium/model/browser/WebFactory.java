@@ -1,6 +1,7 @@
 package com.github.arachnidium.model.browser;
 
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
 
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
@@ -127,5 +128,19 @@ public final class WebFactory extends ApplicationFactory {
 		return result;
 	}
 	
+	/**
+	 * The launching of the browser app using URL which has to be loaded
+	 * without blocking of the current thread
+	 * 
+	 * @param appClass is the desired app representation
+	 * @param desiredUrl is the URL which has to be loaded
+	 * @return {@link CompletableFuture} which is completed by an instance 
+	 * of the given appClass
+	 */
+	public <T extends Application<?, ?>> CompletableFuture<T> launchAsync(
+			Class<T> appClass, String desiredUrl) {
+		return launchAsync(() -> launch(appClass, desiredUrl));
+	}
+	
 	
 }
@@ -12,6 +12,7 @@ import com.github.arachnidium.core.Manager;
 import com.github.arachnidium.core.MobileScreen;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.settings.HandleWaitingTimeOut;
+import com.github.arachnidium.core.settings.SessionPoolSettings;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
 import com.github.arachnidium.model.interfaces.IDecomposableByHandles;
@@ -68,6 +69,9 @@ public abstract class Application<S extends Handle, U extends IHowToGetHandle>
 	 * @see ScreenManager
 	 */
 	protected final Manager<U, ?> manager;
+	// it is true when the application is quit or the session
+	// is returned to the pool
+	private volatile boolean isQuit;
 	/**
 	 * {@link Handle} is the given browser window or mobile context which
 	 * currently present. <br/>
@@ -137,10 +141,46 @@ public abstract class Application<S extends Handle, U extends IHowToGetHandle>
 
 	/**
 	 * This method shuts down the application and starts the destroying of
-	 * related information
+	 * related information. If the browser session was taken from the pool
+	 * of warm sessions it is returned there
+	 * 
+	 * @see SessionPoolSettings
 	 */
 	public void quit() {
-		getWebDriverEncapsulation().destroy();
+		if (isQuit)
+			return;
+		isQuit = true;
+		if (!WarmSessionPool.release(getWebDriverEncapsulation()))
+			getWebDriverEncapsulation().destroy();
+	}
+
+	/**
+	 * The application can't be used after this
+	 * 
+	 * @see com.github.arachnidium.model.abstractions.ModelObject#destroy()
+	 */
+	@Override
+	public void destroy() {
+		isQuit = true;
+		super.destroy();
+	}
+
+	/**
+	 * @return <code>true</code> if the application is quit. Its session may 
+	 * be used by another application if it was returned to the pool
+	 */
+	public final boolean isQuit() {
+		return isQuit;
+	}
+
+	/**
+	 * This method makes the application like just launched one without 
+	 * the shutting down. It is much faster than quit and the new launching.
+	 * 
+	 * @see com.github.arachnidium.core.WebDriverEncapsulation#reset()
+	 */
+	public void reset() {
+		getWebDriverEncapsulation().reset();
 	}
 
 	/**
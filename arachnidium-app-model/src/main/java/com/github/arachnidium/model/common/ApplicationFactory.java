@@ -2,7 +2,14 @@ package com.github.arachnidium.model.common;
 
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
@@ -12,6 +19,7 @@ import com.github.arachnidium.core.Handle;
 import com.github.arachnidium.core.Manager;
 import com.github.arachnidium.core.WebDriverEncapsulation;
 import com.github.arachnidium.core.settings.CapabilitySettings;
+import com.github.arachnidium.core.settings.SessionPoolSettings;
 import com.github.arachnidium.core.settings.WebDriverSettings;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.util.configuration.Configuration;
@@ -24,6 +32,13 @@ import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
  * instances
  */
 public abstract class ApplicationFactory {
+	private final static ExecutorService launcher = Executors
+			.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable,
+						"arachnidium-application-launcher");
+				thread.setDaemon(true);
+				return thread;
+			});
 	protected Configuration config; //By this configuration app will be launched
 	protected ESupportedDrivers supportedDriver; //desired WebDriver
 	protected final Object[] paramValues;
@@ -167,7 +182,7 @@ public abstract class ApplicationFactory {
 			return result;
 		} catch (Exception e) {
 			if (h != null) {
-				h.driverEncapsulation.destroy();
+				WarmSessionPool.discard(h.driverEncapsulation);
 			}
 			throw new RuntimeException(e);
 		}	
@@ -181,6 +196,76 @@ public abstract class ApplicationFactory {
 	 */
 	public abstract <T extends Application<?, ?>> T launch(Class<T> appClass);
 
+	/**
+	 * The starting of the desired application by given parameters
+	 * without blocking of the current thread
+	 * 
+	 * @param appClass is the desired app representation
+	 * @return {@link CompletableFuture} which is completed by an instance 
+	 * of the given appClass
+	 */
+	public <T extends Application<?, ?>> CompletableFuture<T> launchAsync(
+			Class<T> appClass) {
+		return launchAsync(() -> launch(appClass));
+	}
+
+	/**
+	 * The concurrent starting of several instances of the desired 
+	 * application by given parameters. If some of them can't be started 
+	 * then successfully started ones are shut down. The first failure
+	 * is thrown as is. Other failures and failures of the shutting down
+	 * are added to it as suppressed exceptions
+	 * 
+	 * @param appClass is the desired app representation
+	 * @param count is the number of required instances
+	 * @return a list of instances of the given appClass
+	 */
+	public <T extends Application<?, ?>> List<T> launchAll(Class<T> appClass,
+			int count) {
+		List<CompletableFuture<T>> futures = new ArrayList<CompletableFuture<T>>();
+		for (int i = 0; i < count; i++) {
+			futures.add(launchAsync(appClass));
+		}
+		
+		List<T> result = new ArrayList<T>();
+		Throwable failure = null;
+		for (CompletableFuture<T> future: futures) {
+			try {
+				result.add(future.join());
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause() != null ? e.getCause() : e;
+				if (failure == null) {
+					failure = cause;
+				} else if (failure != cause) {
+					failure.addSuppressed(cause);
+				}
+			}
+		}
+		
+		if (failure == null) {
+			return result;
+		}
+		for (T app: result) {
+			try {
+				app.quit();
+			} catch (Throwable t) {
+				failure.addSuppressed(t);
+			}
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		throw new RuntimeException(failure);
+	}
+
+	protected <T extends Application<?, ?>> CompletableFuture<T> launchAsync(
+			Supplier<T> launching) {
+		return CompletableFuture.supplyAsync(launching, launcher);
+	}
+
 	private void prelaunch() {
 		DesiredCapabilities dc = new DesiredCapabilities();
 		dc.merge(supportedDriver.getDefaultCapabilities());
@@ -203,15 +288,41 @@ public abstract class ApplicationFactory {
 	Handle getTheFirstHandle(
 			Class<? extends Manager<?,?>> handleManagerClass) {
 		try {
-			WebDriverEncapsulation wdeInstance = new WebDriverEncapsulation(supportedDriver, paramValues);
-			
+			WebDriverEncapsulation wdeInstance = leaseSession(handleManagerClass);
+			Manager<?,?> m = Manager.getInstanstiatedManager(wdeInstance);
+			return m.getHandle(0);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	// browser sessions are taken from the pool if it is specified
+	// by settings
+	private WebDriverEncapsulation leaseSession(
+			Class<? extends Manager<?,?>> handleManagerClass) {
+		if (!supportedDriver.isForBrowser()){
+			return launchSession(handleManagerClass);
+		}
+		Configuration configuration = config;
+		if (configuration == null){
+			configuration = Configuration.byDefault;
+		}
+		return WarmSessionPool.lease(new WarmSessionPool.Key(supportedDriver,
+				handleManagerClass, paramValues, config), configuration
+				.getSection(SessionPoolSettings.class),
+				() -> launchSession(handleManagerClass));
+	}
+	
+	private WebDriverEncapsulation launchSession(
+			Class<? extends Manager<?,?>> handleManagerClass) {
+		WebDriverEncapsulation wdeInstance = new WebDriverEncapsulation(supportedDriver, paramValues);
+		try {
 			Constructor<?> c = handleManagerClass
 					.getConstructor(new Class<?>[] { WebDriverEncapsulation.class });
-			Manager<?,?> m = (Manager<?,?>) c
-					.newInstance(new Object[] { wdeInstance });
-	
-			return m.getHandle(0);
+			c.newInstance(new Object[] { wdeInstance });
+			return wdeInstance;
 		} catch (Exception e) {
+			wdeInstance.destroy();
 			throw new RuntimeException(e);
 		}
 	}
@@ -27,6 +27,18 @@ import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
  *by {@link IDecomposable} and {@link IDecomposableByHandles}. 
  */
 class ApplicationInterceptor extends ModelObjectInterceptor{
+	private static final String QUIT = "quit";
+	private static final String DESTROY = "destroy";
+
+	// the session may be used by another application. Only methods
+	// of Object and methods which finish the application are available
+	private static boolean isUnavailableAfterQuit(Method method) {
+		if (method.getDeclaringClass().equals(Object.class))
+			return false;
+		String name = method.getName();
+		return !name.equals(QUIT) && !name.equals(DESTROY);
+	}
+
 	/**
 	 *Invokes methods and performs
 	 *the substitution of methods specified 
@@ -43,6 +55,11 @@ class ApplicationInterceptor extends ModelObjectInterceptor{
 	public Object intercept(Object application, Method method, Object[] args,
 			MethodProxy methodProxy) throws Throwable {
 		try {
+			if (((Application<?, ?>) application).isQuit()
+					&& isUnavailableAfterQuit(method)) {
+				throw new IllegalStateException("The application has been quit. "
+						+ method.getName() + " can't be invoked");
+			}
 			if (!method.getName().equals(DecompositionUtil.GET_PART)) {
 				return super.intercept(application, method, args, methodProxy);
 			}
@@ -18,6 +18,7 @@ import org.openqa.selenium.SearchContext;
 
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.interfaces.ISwitchesToItself;
+import com.github.arachnidium.core.polling.PollingStrategy;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
@@ -37,6 +38,7 @@ class DecomposableListInterceptor implements MethodInterceptor {
 	private final Long timeOutLong;
 	private final HowToGetByFrames howToGetByFrames;
 	private final By by;
+	private final PollingStrategy pollingStrategy;
 
 	DecomposableListInterceptor(Field field, ModelObject<?> invoker,
 			ESupportedDrivers supportedDriver) {
@@ -49,6 +51,7 @@ class DecomposableListInterceptor implements MethodInterceptor {
 		timeOutLong = getTimeOut();
 		howToGetByFrames = getHowToGetByFramesStrategy();
 		by = getBy();
+		pollingStrategy = DecompositionUtil.getPollingStrategy(lisField);
 	}
 
 	private IHowToGetHandle returnHowToGetHandleStrategy() {
@@ -96,6 +99,14 @@ class DecomposableListInterceptor implements MethodInterceptor {
 		return by;
 	}
 
+	// each element waits for its root element with its own strategy
+	private IDecomposable withPollingStrategy(IDecomposable element) {
+		if (pollingStrategy != null)
+			DecompositionUtil.setPollingStrategy(element,
+					pollingStrategy.copy());
+		return element;
+	}
+
 	private static Object[] clearArgs(Object[] args) {
 		Object[] result = new Object[] {};
 		for (Object arg : args) {
@@ -130,7 +141,7 @@ class DecomposableListInterceptor implements MethodInterceptor {
 		// FunctionalPart<?> intermediate = returnIntermediatePart();
 
 		if (by == null) {
-			IDecomposable element = returnPart(required);
+			IDecomposable element = withPollingStrategy(returnPart(required));
 			try {
 				if (ISwitchesToItself.class
 						.isAssignableFrom(element.getClass())) {
@@ -156,13 +167,13 @@ class DecomposableListInterceptor implements MethodInterceptor {
 		int totalElements = sc.findElements(by).size();
 		for (int i = 0; i < totalElements; i++) {
 			if (isInvokerApp) {
-				result.add(DecompositionUtil.get(required,
+				result.add(withPollingStrategy(DecompositionUtil.get(required,
 						new Object[] { intermediate.getHandle(),
-								howToGetByFrames, new ByNumbered(by, i) }));
+								howToGetByFrames, new ByNumbered(by, i) })));
 			} else {
-				result.add(DecompositionUtil.get(required,
+				result.add(withPollingStrategy(DecompositionUtil.get(required,
 						new Object[] { invoker, howToGetByFrames,
-								new ByNumbered(by, i) }));
+								new ByNumbered(by, i) })));
 			}
 		}
 
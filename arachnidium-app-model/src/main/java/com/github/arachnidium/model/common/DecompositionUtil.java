@@ -21,6 +21,7 @@ import org.openqa.selenium.WebDriver;
 import com.github.arachnidium.core.HowToGetPage;
 import com.github.arachnidium.core.HowToGetMobileScreen;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+import com.github.arachnidium.core.polling.PollingStrategy;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.model.abstractions.ModelObject;
 import com.github.arachnidium.model.interfaces.IDecomposable;
@@ -114,6 +115,7 @@ abstract class DecompositionUtil {
 						}
 						m = ExecutableUtil.getRelevantMethod(clazz, GET_PART, args);
 						ModelObject<?> value =  (ModelObject<?>) m.invoke(targetDecomposableObject, args);
+						setPollingStrategy(value, getPollingStrategy(field));
 						field.set(targetDecomposableObject, value);
 						//ModelObject fields of a new mock-instance are mocked too 
 						populateFieldsWhichAreDecomposable((ModelObject<?>) value);
@@ -252,6 +254,38 @@ abstract class DecompositionUtil {
 		return ClassDeclarationReader.getTimeOut(timeOuts[0]);
 	}
 
+	/**
+	 * Returns {@link PollingStrategy} of the waiting for the root element
+	 * if the target class is marked by {@link TimeOut} annotation
+	 * @param annotated is the target class which is supposed to be annotated 
+	 * by {@link TimeOut}
+	 * @return {@link PollingStrategy} if it is specified. <code>null</code> otherwise
+	 */
+	static PollingStrategy getPollingStrategy(AnnotatedElement annotated) {
+		TimeOut[] timeOuts = getAnnotations(
+				TimeOut.class, annotated);
+		if (timeOuts.length == 0) {
+			return null;
+		}
+		return ClassDeclarationReader.getPollingStrategy(timeOuts[0]);
+	}
+
+	/**
+	 * Sets the {@link PollingStrategy} of the waiting for the root element
+	 * which is specified by {@link TimeOut} of the field. It overrides the
+	 * strategy specified by {@link TimeOut} of the class
+	 * @param decomposable is the created page/screen representation
+	 * @param strategy is the {@link PollingStrategy} defined by the field.
+	 * Nothing is changed if it is <code>null</code>
+	 */
+	static void setPollingStrategy(Object decomposable, PollingStrategy strategy) {
+		if (strategy == null
+				|| !FunctionalPart.class.isAssignableFrom(decomposable.getClass())) {
+			return;
+		}
+		((FunctionalPart<?>) decomposable).rootElement.setPollingStrategy(strategy);
+	}
+
 	static IRootElementReader getRootElementReader(ESupportedDrivers supportedDriver){
 		if (supportedDriver.isForBrowser()){
 			return new CommonRootElementReader();
@@ -213,6 +213,8 @@ public abstract class FunctionalPart<S extends Handle> extends ModelObject<S>
 		this.rootElement.changeByStrategy(by);
 		this.rootElement.setTimeValue(primaryTimeOut);
 		this.rootElement.setTimeUnit(primaryTimeUnit);
+		this.rootElement.setPollingStrategy(DecompositionUtil
+				.getPollingStrategy(getClass()));
 		scriptExecutor = getComponent(ScriptExecutor.class);
 	    ime = getComponent(Ime.class);
 	    defaultFieldDecorator = new DefaultDecorator(
@@ -486,14 +488,16 @@ public abstract class FunctionalPart<S extends Handle> extends ModelObject<S>
 	 */
 	@Override
 	public synchronized void switchToMe() {
-		// firstly we should switch parent browser window on
-		if (parent != null)
-			parent.switchToMe();
-		else
-			handle.switchToMe();
-		if (pathStrategy != null)
-			pathStrategy.switchTo(getWrappedDriver());
-		return;
+		// frame paths of parents are relative to the browser window.
+		// The path of this part is relative to the parent frame
+		LinkedList<HowToGetByFrames> framePaths = new LinkedList<HowToGetByFrames>();
+		FunctionalPart<?> part = this;
+		while (part != null) {
+			if (part.pathStrategy != null)
+				framePaths.addFirst(part.pathStrategy);
+			part = part.parent;
+		}
+		handle.switchToMe(framePaths);
 	}
 
 	/**
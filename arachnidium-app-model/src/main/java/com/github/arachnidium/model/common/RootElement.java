@@ -14,7 +14,10 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsElement;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.SystemClock;
 
+import com.github.arachnidium.core.polling.FixedPolling;
+import com.github.arachnidium.core.polling.PollingStrategy;
 import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
 import com.google.common.base.Function;
 
@@ -23,10 +26,11 @@ import com.google.common.base.Function;
  * root element in the chain of further searches.
  */
 class RootElement implements WrapsElement {
-	private final long POLLING_EVERY = 100; //MILLISECONDS
+	private final static PollingStrategy DEFAULT_POLLING = new FixedPolling(100);
 	private By by;
 	private long timeValue;
 	private TimeUnit timeUnit;
+	private PollingStrategy pollingStrategy;
 	private final FunctionalPart<?> functionalPart;
 
 	/**
@@ -45,6 +49,24 @@ class RootElement implements WrapsElement {
 		this.timeUnit = timeUnit;
 	}
 
+	void setPollingStrategy(PollingStrategy pollingStrategy) {
+		this.pollingStrategy = pollingStrategy;
+	}
+
+	// the strategy which is specified by @TimeOut, then the configured one.
+	// The configured strategy is copied once. So only waitings for this
+	// root element affect intervals of each other
+	private PollingStrategy getPollingStrategy() {
+		if (pollingStrategy != null)
+			return pollingStrategy;
+		PollingStrategy configured = functionalPart.getWebDriverEncapsulation()
+				.getPollingStrategy();
+		if (configured == null)
+			return DEFAULT_POLLING;
+		pollingStrategy = configured.copy();
+		return pollingStrategy;
+	}
+
 	// this method returns the function which performs the waiting for the root
 	// element
 	private Function<By, WebElement> getWaitForTheRootElementFunction() {
@@ -70,10 +92,11 @@ class RootElement implements WrapsElement {
 			t.implicitlyWait(0, TimeUnit.SECONDS);
 			WebElement root = null;
 			try {
-				FluentWait<By> wait = new FluentWait<By>(by);
+				PollingStrategy strategy = getPollingStrategy();
+				FluentWait<By> wait = new FluentWait<By>(by, new SystemClock(),
+						strategy.getSleeper());
 				wait.withTimeout(timeValue, timeUnit);
-				wait.pollingEvery(POLLING_EVERY, TimeUnit.MILLISECONDS);
-				root = wait.until(getWaitForTheRootElementFunction());
+				root = strategy.until(wait, getWaitForTheRootElementFunction());
 			} catch (TimeoutException e) {
 				throw new NoSuchElementException(
 						"Cann't locate the root element by " + by.toString(), e);
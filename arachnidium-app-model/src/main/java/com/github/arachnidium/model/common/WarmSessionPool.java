@@ -0,0 +1,306 @@
+package com.github.arachnidium.model.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriverException;
+
+import com.github.arachnidium.core.Manager;
+import com.github.arachnidium.core.WebDriverEncapsulation;
+import com.github.arachnidium.core.settings.SessionPoolSettings;
+import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.logging.FlightRecorder;
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * Keeps browser sessions which are launched beforehand and
+ * sessions which were used and returned by {@link Application#quit()}.
+ * Objects which were created for the returned session are destroyed.
+ * Leased sessions are referred weakly, so a session which was not 
+ * returned is not kept by the pool.
+ * Sessions are kept separately for each combination of
+ * {@link ESupportedDrivers}, {@link Manager} class, launching
+ * parameters (capabilities, remote URL) and {@link Configuration}.
+ *
+ * @see SessionPoolSettings
+ */
+final class WarmSessionPool {
+	// idle sessions are checked with this period (seconds)
+	private final static long EVICTION_PERIOD = 10;
+
+	private final static ExecutorService launcher = Executors
+			.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable,
+						"arachnidium-session-launcher");
+				thread.setDaemon(true);
+				return thread;
+			});
+	private final static ScheduledExecutorService evictor = Executors
+			.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable,
+						"arachnidium-session-evictor");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private final static Map<Key, LinkedList<PooledSession>> idleSessions = new HashMap<Key, LinkedList<PooledSession>>();
+	private final static Map<Key, Integer> launchingSessions = new HashMap<Key, Integer>();
+	// leased sessions are keys. PooledSession doesn't refer to the session 
+	// while it is leased
+	private final static Map<WebDriverEncapsulation, PooledSession> leasedSessions = new WeakHashMap<WebDriverEncapsulation, PooledSession>();
+
+	static {
+		evictor.scheduleWithFixedDelay(WarmSessionPool::evictIdleSessions,
+				EVICTION_PERIOD, EVICTION_PERIOD, TimeUnit.SECONDS);
+		Runtime.getRuntime().addShutdownHook(
+				new Thread(WarmSessionPool::destroyIdleSessions));
+	}
+
+	/**
+	 * Describes sessions which are interchangeable
+	 */
+	static final class Key {
+		private final ESupportedDrivers supportedDriver;
+		private final Class<?> handleManagerClass;
+		private final List<Object> parameters;
+		private final Configuration configuration;
+
+		Key(ESupportedDrivers supportedDriver, Class<?> handleManagerClass,
+				Object[] parameters, Configuration configuration) {
+			this.supportedDriver = supportedDriver;
+			this.handleManagerClass = handleManagerClass;
+			this.parameters = Arrays.asList(parameters);
+			this.configuration = configuration;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key key = (Key) obj;
+			return supportedDriver == key.supportedDriver
+					&& handleManagerClass.equals(key.handleManagerClass)
+					&& parameters.equals(key.parameters)
+					&& configuration == key.configuration;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(supportedDriver, handleManagerClass,
+					parameters, System.identityHashCode(configuration));
+		}
+	}
+
+	private static class PooledSession {
+		private final Key key;
+		// it is null while the session is leased
+		private WebDriverEncapsulation session;
+		private final Supplier<WebDriverEncapsulation> launcher;
+		private final long size;
+		private final long idleTimeOut;
+		private final long maxUses;
+		private int uses;
+		private long idleSince;
+
+		private PooledSession(Key key, WebDriverEncapsulation session,
+				Supplier<WebDriverEncapsulation> launcher,
+				SessionPoolSettings settings) {
+			this.key = key;
+			this.session = session;
+			this.launcher = launcher;
+			this.size = settings.getSize();
+			this.idleTimeOut = TimeUnit.SECONDS.toMillis(settings
+					.getIdleTimeOut());
+			this.maxUses = settings.getMaxUses();
+		}
+
+		private boolean isUsedUp() {
+			return maxUses > 0 && uses >= maxUses;
+		}
+	}
+
+	private WarmSessionPool() {
+		super();
+	}
+
+	/**
+	 * Gives a warm session or launches the new one if there is no
+	 * idle session. Then it launches new sessions in background until
+	 * the number of idle sessions reaches the specified size
+	 *
+	 * @param key describes the required session
+	 * @param settings are parameters of the pool
+	 * @param launcher launches the new session
+	 * @return {@link WebDriverEncapsulation}
+	 */
+	static WebDriverEncapsulation lease(Key key, SessionPoolSettings settings,
+			Supplier<WebDriverEncapsulation> launcher) {
+		if (settings.getSize() <= 0)
+			return launcher.get();
+
+		PooledSession pooled;
+		synchronized (WarmSessionPool.class) {
+			pooled = getIdleSessions(key).pollFirst();
+		}
+		if (pooled == null)
+			pooled = new PooledSession(key, launcher.get(), launcher, settings);
+		WebDriverEncapsulation session = pooled.session;
+		synchronized (WarmSessionPool.class) {
+			pooled.uses++;
+			pooled.session = null;
+			leasedSessions.put(session, pooled);
+		}
+		launchInBackground(key, launcher, settings.getSize());
+		// the session may be launched by another thread
+		session.setUpFlightRecorder();
+		return session;
+	}
+
+	/**
+	 * Returns the session to the pool. Objects which are related to 
+	 * the session (applications, page objects etc.) are destroyed. 
+	 * If the session can't be used anymore it is destroyed
+	 *
+	 * @param session is a session which was given by
+	 * {@link #lease(Key, SessionPoolSettings, Supplier)}
+	 * @return <code>false</code> if the session was not given by the pool
+	 */
+	static boolean release(WebDriverEncapsulation session) {
+		PooledSession pooled;
+		synchronized (WarmSessionPool.class) {
+			pooled = leasedSessions.remove(session);
+		}
+		if (pooled == null)
+			return false;
+
+		session.destroyRelatedObjects();
+		// kept records belong to the finished test
+		FlightRecorder.discard();
+		if (pooled.isUsedUp() || !reset(session)) {
+			session.destroy();
+			launchInBackground(pooled.key, pooled.launcher, pooled.size);
+			return true;
+		}
+		pooled.idleSince = System.currentTimeMillis();
+		synchronized (WarmSessionPool.class) {
+			pooled.session = session;
+			getIdleSessions(pooled.key).addLast(pooled);
+		}
+		return true;
+	}
+
+	/**
+	 * Destroys the session. If it was given by the pool it is
+	 * not kept anymore
+	 *
+	 * @param session is {@link WebDriverEncapsulation} to be destroyed
+	 */
+	static void discard(WebDriverEncapsulation session) {
+		synchronized (WarmSessionPool.class) {
+			leasedSessions.remove(session);
+		}
+		session.destroy();
+	}
+
+	private static LinkedList<PooledSession> getIdleSessions(Key key) {
+		LinkedList<PooledSession> sessions = idleSessions.get(key);
+		if (sessions == null) {
+			sessions = new LinkedList<PooledSession>();
+			idleSessions.put(key, sessions);
+		}
+		return sessions;
+	}
+
+	private static void launchInBackground(Key key,
+			Supplier<WebDriverEncapsulation> launcher, long size) {
+		int toBeLaunched;
+		synchronized (WarmSessionPool.class) {
+			Integer launching = launchingSessions.get(key);
+			if (launching == null)
+				launching = 0;
+			toBeLaunched = (int) (size - getIdleSessions(key).size() - launching);
+			if (toBeLaunched <= 0)
+				return;
+			launchingSessions.put(key, launching + toBeLaunched);
+		}
+
+		for (int i = 0; i < toBeLaunched; i++) {
+			WarmSessionPool.launcher.execute(() -> {
+				PooledSession pooled = null;
+				try {
+					pooled = new PooledSession(key, launcher.get(), launcher,
+							settings(key));
+					pooled.idleSince = System.currentTimeMillis();
+				} catch (RuntimeException e) {
+					Log.warning("Can't launch a warm session. " + e.getMessage(), e);
+				} finally {
+					synchronized (WarmSessionPool.class) {
+						launchingSessions.put(key,
+								launchingSessions.get(key) - 1);
+						if (pooled != null)
+							getIdleSessions(key).addLast(pooled);
+					}
+				}
+			});
+		}
+	}
+
+	private static SessionPoolSettings settings(Key key) {
+		Configuration configuration = key.configuration;
+		if (configuration == null)
+			configuration = Configuration.byDefault;
+		return configuration.getSection(SessionPoolSettings.class);
+	}
+
+	// the session becomes like the new one
+	private static boolean reset(WebDriverEncapsulation session) {
+		try {
+			session.reset();
+			return true;
+		} catch (WebDriverException e) {
+			Log.debug("The session can't be reset. It will be quit. "
+					+ e.getMessage());
+			return false;
+		}
+	}
+
+	private static void evictIdleSessions() {
+		List<PooledSession> toBeDestroyed = new ArrayList<PooledSession>();
+		long now = System.currentTimeMillis();
+		synchronized (WarmSessionPool.class) {
+			idleSessions.values().forEach(sessions -> {
+				Iterator<PooledSession> iterator = sessions.iterator();
+				while (iterator.hasNext()) {
+					PooledSession pooled = iterator.next();
+					if (now - pooled.idleSince >= pooled.idleTimeOut) {
+						iterator.remove();
+						toBeDestroyed.add(pooled);
+					}
+				}
+			});
+		}
+		toBeDestroyed.forEach(pooled -> pooled.session.destroy());
+	}
+
+	private static void destroyIdleSessions() {
+		List<PooledSession> toBeDestroyed = new ArrayList<PooledSession>();
+		synchronized (WarmSessionPool.class) {
+			idleSessions.values().forEach(toBeDestroyed::addAll);
+			idleSessions.clear();
+		}
+		toBeDestroyed.forEach(pooled -> pooled.session.destroy());
+	}
+}
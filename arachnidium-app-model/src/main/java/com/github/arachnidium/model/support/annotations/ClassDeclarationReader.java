@@ -7,6 +7,9 @@ import java.util.List;
 import org.openqa.selenium.By;
 import org.openqa.selenium.support.ByIdOrName;
 import org.openqa.selenium.support.How;
+
+import com.github.arachnidium.core.polling.EPollingStrategies;
+import com.github.arachnidium.core.polling.PollingStrategy;
 import com.github.arachnidium.util.reflect.annotations.AnnotationUtil;
 
 /**
@@ -18,6 +21,9 @@ public final class ClassDeclarationReader {
 	private static final String REG_EXP_METHOD = "regExp";
 	private static final String INDEX_METHOD = "index";
 	private static final String TIME_OUT = "timeOut";
+	private static final String POLLING = "polling";
+	private static final String POLLING_INTERVAL = "pollingInterval";
+	private static final String MAX_POLLING_INTERVAL = "maxPollingInterval";
 	// @Frame
 	private static final String STRING_PATH_METHOD = "stringPath";
 	private static final String FRAME_INDEX_METHOD = "frameIndex";
@@ -130,4 +136,19 @@ public final class ClassDeclarationReader {
 		return AnnotationUtil.getValue(a, TIME_OUT);
 	}
 	
+	/**
+	 * Returns {@link PollingStrategy} defined by "polling()", 
+	 * "pollingInterval()" and "maxPollingInterval()" values 
+	 * or <code>null</code> if the polling is not specified
+	 * @param a An instance of {@link TimeOut}
+	 */
+	public static PollingStrategy getPollingStrategy(Annotation a){
+		EPollingStrategies[] polling = AnnotationUtil.getValue(a, POLLING);
+		if (polling.length == 0)
+			return null;
+		long interval = AnnotationUtil.getValue(a, POLLING_INTERVAL);
+		long maxInterval = AnnotationUtil.getValue(a, MAX_POLLING_INTERVAL);
+		return polling[0].get(interval, maxInterval);
+	}
+	
 }
@@ -5,6 +5,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.github.arachnidium.core.polling.EPollingStrategies;
+
 /**
  * This annotation is useful when 
  * default timeout of waiting for browser window 
@@ -24,9 +26,25 @@ import java.lang.annotation.Target;
  * <p>
  * There is an assumption that time unit
  * is seconds. 
+ * <p>
+ * The strategy of polling which is used while the root
+ * element of the annotated class is awaited could be 
+ * specified too
+ * <p>
+ * <code>
+ * <p>@TimeOut(timeOut = 15, polling = EPollingStrategies.EXPONENTIAL, 
+ * pollingInterval = 50, maxPollingInterval = 1000)
+ * </code>
+ * <p>
+ * Intervals are in milliseconds. If the polling is not specified 
+ * then the configured strategy is used. The polling specified 
+ * by the annotated field overrides the polling of the annotated class
  */
 @Target(value = {ElementType.TYPE, ElementType.FIELD})
 @Retention(value = RetentionPolicy.RUNTIME)
 public @interface TimeOut {
 	long timeOut();
+	EPollingStrategies[] polling() default {};
+	long pollingInterval() default 100;
+	long maxPollingInterval() default 2000;
 }
@@ -11,6 +11,7 @@ import org.openqa.selenium.remote.UnreachableBrowserException;
 
 import com.github.arachnidium.core.components.common.NavigationTool;
 import com.github.arachnidium.core.components.common.WindowTool;
+import com.github.arachnidium.core.fluenthandle.PageMetadataCache;
 import com.github.arachnidium.core.interfaces.IExtendedWindow;
 
 /**
@@ -71,7 +72,13 @@ public class BrowserWindow extends Handle implements Navigation,
 	@Override
 	public synchronized String getCurrentUrl() throws NoSuchWindowException {
 		switchToMe();
-		return driverEncapsulation.getWrappedDriver().getCurrentUrl();
+		PageMetadataCache cache = driverEncapsulation.getPageMetadataCache();
+		String url = cache.getCurrentUrl(handle);
+		if (url != null)
+			return url;
+		url = driverEncapsulation.getWrappedDriver().getCurrentUrl();
+		cache.setCurrentUrl(handle, url);
+		return url;
 	}
 
 	/**
@@ -97,7 +104,14 @@ public class BrowserWindow extends Handle implements Navigation,
 	 */
 	@Override
 	public synchronized String getTitle() {
-		return driverEncapsulation.getWrappedDriver().getTitle();
+		switchToMe();
+		PageMetadataCache cache = driverEncapsulation.getPageMetadataCache();
+		String title = cache.getTitle(handle);
+		if (title != null)
+			return title;
+		title = driverEncapsulation.getWrappedDriver().getTitle();
+		cache.setTitle(handle, title);
+		return title;
 	}
 
 	/**
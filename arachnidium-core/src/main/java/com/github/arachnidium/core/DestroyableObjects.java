@@ -1,6 +1,8 @@
 package com.github.arachnidium.core;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.function.Predicate;
 
 import com.github.arachnidium.core.interfaces.IDestroyable;
 
@@ -8,12 +10,12 @@ class DestroyableObjects implements IDestroyable {
 
 	private final ArrayList<IDestroyable> destroyableList = new ArrayList<IDestroyable>();
 	
-	void add(IDestroyable destroyable){
+	synchronized void add(IDestroyable destroyable){
 		destroyableList.add(destroyable);
 	}
 	
 	@Override
-	public void destroy() {
+	public synchronized void destroy() {
 		//removes references or does something that 
 		for (IDestroyable d: destroyableList){ //kills objects refereed to WebDriver
 			d.destroy(); //Uses order of adding
@@ -21,4 +23,19 @@ class DestroyableObjects implements IDestroyable {
 		destroyableList.clear();
 	}
 
+	/**
+	 * Destroys objects which match the given condition and forgets them. 
+	 * Other objects are kept
+	 */
+	synchronized void destroy(Predicate<IDestroyable> condition) {
+		Iterator<IDestroyable> iterator = destroyableList.iterator();
+		while (iterator.hasNext()) {
+			IDestroyable d = iterator.next();
+			if (!condition.test(d))
+				continue;
+			d.destroy();
+			iterator.remove();
+		}
+	}
+
 }
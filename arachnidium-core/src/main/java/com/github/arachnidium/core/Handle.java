@@ -1,5 +1,6 @@
 package com.github.arachnidium.core;
 
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 
@@ -27,6 +28,8 @@ ITakesPictureOfItSelf, IDestroyable {
 	public final Manager<?,?> nativeManager;
 
 	private final HandleReceptionist receptionist;
+	// it is true when the session is quit or reset
+	private volatile boolean isDestroyed;
 
 	Handle(String handle, Manager<?,?> manager) {
 		this.nativeManager = manager;
@@ -37,9 +40,18 @@ ITakesPictureOfItSelf, IDestroyable {
 
 	@Override
 	public void destroy() {
+		isDestroyed = true;
 		receptionist.remove(this);
 	}
 
+	/**
+	 * @return <code>true</code> if the object is destroyed because
+	 * the session is quit or reset. It shouldn't be used then
+	 */
+	public boolean isDestroyed() {
+		return isDestroyed;
+	}
+
 	/**
 	 * @return flag of the handle existing
 	 */
@@ -47,7 +59,7 @@ ITakesPictureOfItSelf, IDestroyable {
 		if (!nativeManager.isAlive())
 			return false;
 		try {
-			Set<String> handles = nativeManager.getHandles();
+			Set<String> handles = nativeManager.getLiveHandles();
 			return handles.contains(handle);
 		} catch (WebDriverException e) { // if there is no handle
 			return false;
@@ -72,6 +84,20 @@ ITakesPictureOfItSelf, IDestroyable {
 		nativeManager.switchTo(handle);
 	}
 
+	/**
+	 * Sets focus to itself and switches to the required frame.
+	 * Frames which the driver is already switched into are not
+	 * switched again
+	 * 
+	 * @param framePaths Sequential paths to the required frame.
+	 * Each next path is relative to the previous one
+	 * 
+	 * @see HowToGetByFrames
+	 */
+	public synchronized void switchToMe(List<HowToGetByFrames> framePaths) {
+		nativeManager.switchTo(handle, framePaths);
+	}
+
 	/**
 	 * Takes a picture of itself.
 	 * It creates FINE {@link Level} {@link Log} message with 
@@ -17,13 +17,24 @@ class HandleInterceptor<U extends IHowToGetHandle> extends DefaultInterceptor {
 		this.timeOut = timeOut;
 		this.manager = manager;
 	}
+
+	/**
+	 * The given window/mobile context is already found. It is found 
+	 * again by the strategy if it doesn't exist anymore
+	 */
+	HandleInterceptor(Manager<U, ?> manager, U howToGetHandle, long timeOut,
+			Handle handle) {
+		this(manager, howToGetHandle, timeOut);
+		this.handle = handle;
+	}
 	
 	private void instantiateHandle(){
 		if (handle == null && manager.isAlive){
 			handle = manager.getRealHandle(timeOut, howToGetHandle);
 			return;
 		}
-		if (!handle.exists() && manager.isAlive()){
+		// the session may be reset. Destroyed objects are not used
+		if ((handle.isDestroyed() || !handle.exists()) && manager.isAlive()){
 			handle = manager.getRealHandle(timeOut, howToGetHandle);
 			return;
 		}
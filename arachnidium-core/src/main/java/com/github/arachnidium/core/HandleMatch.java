@@ -0,0 +1,39 @@
+package com.github.arachnidium.core;
+
+import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
+
+/**
+ * It is the result of the waiting for any of several
+ * windows/mobile contexts. It contains found window/context
+ * and the strategy which was matched first.
+ * 
+ * @see Manager#getAnyHandle(long, IHowToGetHandle...)
+ */
+public final class HandleMatch<U extends IHowToGetHandle, V extends Handle> {
+	private final V handle;
+	private final U strategy;
+	
+	HandleMatch(V handle, U strategy) {
+		this.handle = handle;
+		this.strategy = strategy;
+	}
+
+	/**
+	 * @return Found window or mobile context
+	 */
+	public V getHandle() {
+		return handle;
+	}
+
+	/**
+	 * @return The given strategy which was matched first
+	 */
+	public U getStrategy() {
+		return strategy;
+	}
+	
+	@Override
+	public String toString() {
+		return strategy.toString();
+	}
+}
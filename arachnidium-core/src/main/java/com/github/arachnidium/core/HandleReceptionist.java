@@ -2,9 +2,12 @@ package com.github.arachnidium.core;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.github.arachnidium.core.interfaces.IHasHandle;
 
@@ -14,8 +17,23 @@ import com.github.arachnidium.core.interfaces.IHasHandle;
  */
 class HandleReceptionist {
 
-	final private Map<String, IHasHandle> handleObjects = Collections
-			.synchronizedMap(new HashMap<String, IHasHandle>());
+	final private Map<String, IHasHandle> handleObjects = new ConcurrentHashMap<String, IHasHandle>();
+	/** handles which were received from the server last time **/
+	private final AtomicReference<LiveHandles> liveHandles = new AtomicReference<LiveHandles>();
+
+	/**
+	 * Handles which were received from the server and the time
+	 * when they were received. It is not changed after the creation
+	 */
+	private static class LiveHandles {
+		private final Set<String> handles;
+		private final long checkTime;
+
+		private LiveHandles(Set<String> handles, long checkTime) {
+			this.handles = Collections.unmodifiableSet(handles);
+			this.checkTime = checkTime;
+		}
+	}
 
 	/** adds a new handle that is instantiated as {@link IHasHandle} object **/
 	void addKnown(IHasHandle handleObject) {
@@ -27,6 +45,11 @@ class HandleReceptionist {
 		return new ArrayList<>(handleObjects.values());
 	}
 
+	/** the number of handles that are instantiated as {@link IHasHandle} objects **/
+	int getInstantiatedCount() {
+		return handleObjects.size();
+	}
+
 	/** is handle known as instance of {@link IHasHandle} **/
 	IHasHandle isInstantiated(String handle) {
 		return handleObjects.get(handle);
@@ -37,4 +60,41 @@ class HandleReceptionist {
 		handleObjects.remove(handle.getHandle());
 	}
 
+	/**
+	 * gets handles which were received from the server not earlier than
+	 * <code>recheckPeriod</code> milliseconds ago. Returns <code>null</code>
+	 * if they were invalidated or they are out of date. The returned set
+	 * can't be modified
+	 **/
+	Set<String> getLiveHandles(long recheckPeriod) {
+		LiveHandles liveHandles = this.liveHandles.get();
+		if (liveHandles == null)
+			return null;
+		if (System.currentTimeMillis() - liveHandles.checkTime > recheckPeriod)
+			return null;
+		return liveHandles.handles;
+	}
+
+	/** remembers handles which are received from the server **/
+	void setLiveHandles(Set<String> handles) {
+		liveHandles.set(new LiveHandles(new HashSet<>(handles), System
+				.currentTimeMillis()));
+	}
+
+	/** adds handle which is known as existing (e.g. it has been switched on) **/
+	void confirmLiveHandle(String handle) {
+		liveHandles.updateAndGet((current) -> {
+			if (current == null || current.handles.contains(handle))
+				return current;
+			Set<String> handles = new HashSet<>(current.handles);
+			handles.add(handle);
+			return new LiveHandles(handles, current.checkTime);
+		});
+	}
+
+	/** forgets handles which were received from the server **/
+	void invalidateLiveHandles() {
+		liveHandles.set(null);
+	}
+
 }
@@ -0,0 +1,60 @@
+package com.github.arachnidium.core;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
+
+class HandleStateObservers implements IHandleStateObserver {
+
+	private final List<IHandleStateObserver> observerList = new CopyOnWriteArrayList<IHandleStateObserver>();
+
+	void add(IHandleStateObserver observer) {
+		observerList.add(observer);
+	}
+
+	void remove(IHandleStateObserver observer) {
+		observerList.remove(observer);
+	}
+
+	@Override
+	public void whenWindowIsSwitchedOn(String handle) {
+		observerList.forEach((o) -> o.whenWindowIsSwitchedOn(handle));
+	}
+
+	@Override
+	public void whenContextIsSwitchedOn(String context) {
+		observerList.forEach((o) -> o.whenContextIsSwitchedOn(context));
+	}
+
+	@Override
+	public void whenFrameIsSwitchedOn(Object frameIdentifier) {
+		observerList.forEach((o) -> o.whenFrameIsSwitchedOn(frameIdentifier));
+	}
+
+	@Override
+	public void whenParentFrameIsSwitchedOn() {
+		observerList.forEach((o) -> o.whenParentFrameIsSwitchedOn());
+	}
+
+	@Override
+	public void whenDefaultContentIsSwitchedOn() {
+		observerList.forEach((o) -> o.whenDefaultContentIsSwitchedOn());
+	}
+
+	@Override
+	public void whenPageIsChanged() {
+		observerList.forEach((o) -> o.whenPageIsChanged());
+	}
+
+	@Override
+	public void whenWindowIsClosed() {
+		observerList.forEach((o) -> o.whenWindowIsClosed());
+	}
+
+	@Override
+	public void whenHandleIsLost() {
+		observerList.forEach((o) -> o.whenHandleIsLost());
+	}
+
+}
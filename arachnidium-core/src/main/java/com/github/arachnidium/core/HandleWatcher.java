@@ -0,0 +1,254 @@
+package com.github.arachnidium.core;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.SystemClock;
+
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
+import com.github.arachnidium.core.polling.PollingStrategy;
+
+/**
+ * Waits for windows/mobile contexts. The given condition is evaluated
+ * once per polling interval of the {@link PollingStrategy}. When something
+ * might open or close a window (click, submit, script, navigation) the
+ * set of handles is requested once by the scheduler and it is compared
+ * with the set known by each waiting. If the set is changed then the
+ * condition is evaluated immediately and the waiting is completed. So a new
+ * window/context is found as soon as it appears.
+ */
+class HandleWatcher implements IHandleStateObserver {
+
+	// the polling interval when there is no configured strategy (milliseconds)
+	final static long DEFAULT_POLLING_PERIOD = 500;
+
+	private final Set<Waiting<?>> waitings = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService scheduler;
+	// checks which are caused by events are not queued one after another
+	private final AtomicBoolean isCheckScheduled = new AtomicBoolean();
+
+	/**
+	 * The condition which is awaited and the future which is
+	 * completed by the value returned by it
+	 */
+	private final class Waiting<T> {
+		private final WebDriver driver;
+		private final Supplier<Set<String>> handleSupplier;
+		private final ExpectedCondition<T> condition;
+		private final CompletableFuture<T> result = new CompletableFuture<T>();
+		private Set<String> knownHandles;
+		private RuntimeException lastException;
+
+		private Waiting(WebDriver driver,
+				Supplier<Set<String>> handleSupplier,
+				ExpectedCondition<T> condition) {
+			this.driver = driver;
+			this.handleSupplier = handleSupplier;
+			this.condition = condition;
+		}
+
+		// the required check just evaluates the condition. The condition
+		// requests handles itself. Otherwise the set of handles is requested
+		// once and the condition is evaluated only if the set is changed.
+		// Checks are performed one by one because they use the same session
+		private void check(boolean isRequired) {
+			synchronized (HandleWatcher.this) {
+				if (result.isDone())
+					return;
+				if (!isRequired && !areHandlesChanged())
+					return;
+				try {
+					T value = condition.apply(driver);
+					if (value != null && !Boolean.FALSE.equals(value))
+						result.complete(value);
+				} catch (NotFoundException e) {
+					lastException = e;
+				} catch (Throwable t) {
+					result.completeExceptionally(t);
+				}
+			}
+		}
+
+		private boolean areHandlesChanged() {
+			Set<String> handles;
+			try {
+				handles = handleSupplier.get();
+			} catch (WebDriverException e) {
+				lastException = e;
+				return true;
+			}
+			boolean isChanged = !handles.equals(knownHandles);
+			knownHandles = handles;
+			return isChanged;
+		}
+
+		// the attempt which is performed by the strategy
+		private Boolean attempt() {
+			check(true);
+			return result.isDone() ? true : null;
+		}
+	}
+
+	/**
+	 * @param scheduler checks waitings when windows/contexts might be changed
+	 */
+	HandleWatcher(ScheduledExecutorService scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * @param driver is the instance of {@link WebDriver}
+	 * @param handleSupplier returns the actual set of window handles/context names
+	 * @param strategy is the {@link PollingStrategy} of this waiting
+	 * @param secTimeOut is the time to wait for (seconds)
+	 * @param condition is the {@link ExpectedCondition} which returns a handle
+	 * @return the value returned by the given condition
+	 * @throws TimeoutException
+	 */
+	<T> T await(WebDriver driver, Supplier<Set<String>> handleSupplier,
+			PollingStrategy strategy, long secTimeOut,
+			ExpectedCondition<T> condition) throws TimeoutException {
+		long end = System.currentTimeMillis()
+				+ TimeUnit.SECONDS.toMillis(secTimeOut);
+		Waiting<T> waiting = new Waiting<T>(driver, handleSupplier, condition);
+		waitings.add(waiting);
+		try {
+			FluentWait<Waiting<T>> wait = new FluentWait<Waiting<T>>(waiting,
+					new SystemClock(), getSleeper(strategy, waiting.result, end));
+			wait.withTimeout(secTimeOut, TimeUnit.SECONDS);
+			try {
+				strategy.until(wait, w -> w.attempt());
+			} catch (TimeoutException e) {
+				throw new TimeoutException("Timed out after " + secTimeOut
+						+ " seconds waiting for " + condition,
+						waiting.lastException);
+			}
+			return getResult(waiting.result);
+		} finally {
+			waitings.remove(waiting);
+		}
+	}
+
+	// it sleeps as the strategy says but not longer than the end of the
+	// waiting. The sleeping is interrupted when the waiting is completed
+	// by an event
+	private static Sleeper getSleeper(PollingStrategy strategy,
+			CompletableFuture<?> result, long end) {
+		return new Sleeper() {
+			private int attempt;
+
+			@Override
+			public void sleep(Duration ignored) throws InterruptedException {
+				attempt++;
+				long left = end - System.currentTimeMillis() + 1;
+				try {
+					result.get(Math.max(0, Math.min(left,
+							strategy.getInterval(attempt))),
+							TimeUnit.MILLISECONDS);
+				} catch (java.util.concurrent.TimeoutException
+						| ExecutionException e) {
+					// the next attempt is going to be performed
+				}
+			}
+		};
+	}
+
+	/**
+	 * Waits without blocking of the current thread. Attempts are performed
+	 * by the given scheduler the same way as
+	 * {@link PollingStrategy#untilAsync(Object, com.google.common.base.Function, long, TimeUnit, ScheduledExecutorService)}
+	 * does. Events may complete the waiting before the next attempt.
+	 * Attempts are stopped when the returned future is cancelled.
+	 *
+	 * @param driver is the instance of {@link WebDriver}
+	 * @param handleSupplier returns the actual set of window handles/context names
+	 * @param strategy is the {@link PollingStrategy} of this waiting
+	 * @param secTimeOut is the time to wait for (seconds)
+	 * @param condition is the {@link ExpectedCondition} which returns a handle
+	 * @param scheduler performs attempts
+	 * @return {@link CompletableFuture} which is completed by the value
+	 * returned by the condition or by {@link TimeoutException}
+	 */
+	<T> CompletableFuture<T> awaitAsync(WebDriver driver,
+			Supplier<Set<String>> handleSupplier, PollingStrategy strategy,
+			long secTimeOut, ExpectedCondition<T> condition,
+			ScheduledExecutorService scheduler) {
+		Waiting<T> waiting = new Waiting<T>(driver, handleSupplier, condition);
+		waitings.add(waiting);
+		CompletableFuture<Boolean> attempts = strategy.untilAsync(waiting,
+				w -> w.attempt(), secTimeOut, TimeUnit.SECONDS, scheduler);
+		attempts.whenComplete((isDone, t) -> {
+			if (t == null)
+				return;
+			if (t instanceof TimeoutException)
+				t = new TimeoutException("Timed out after " + secTimeOut
+						+ " seconds waiting for " + condition,
+						waiting.lastException);
+			waiting.result.completeExceptionally(t);
+		});
+		waiting.result.whenComplete((value, t) -> {
+			waitings.remove(waiting);
+			attempts.cancel(false);
+		});
+		return waiting.result;
+	}
+
+	private static <T> T getResult(CompletableFuture<T> result) {
+		try {
+			return result.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new WebDriverException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new WebDriverException(e);
+		}
+	}
+
+	// waitings are checked by the scheduler. So the thread which has
+	// caused the event doesn't wait for it. Events which are caused
+	// by evaluation of conditions are ignored
+	private void handlesMightBeChanged() {
+		if (waitings.isEmpty() || Thread.holdsLock(this))
+			return;
+		if (!isCheckScheduled.compareAndSet(false, true))
+			return;
+		scheduler.execute(() -> {
+			isCheckScheduled.set(false);
+			waitings.forEach(waiting -> waiting.check(false));
+		});
+	}
+
+	@Override
+	public void whenPageIsChanged() {
+		handlesMightBeChanged();
+	}
+
+	@Override
+	public void whenWindowIsClosed() {
+		handlesMightBeChanged();
+	}
+
+	@Override
+	public void whenHandleIsLost() {
+		handlesMightBeChanged();
+	}
+}
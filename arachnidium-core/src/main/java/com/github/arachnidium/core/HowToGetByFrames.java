@@ -1,9 +1,14 @@
 package com.github.arachnidium.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.TargetLocator;
 import org.openqa.selenium.WebElement;
@@ -26,6 +31,63 @@ public class HowToGetByFrames {
 		}
 	};
 	final ArrayList<Object> framePath = new ArrayList<Object>();
+	// frame elements which were found by By-identifiers.
+	// Keys are positions of identifiers in the frame path
+	private final Map<Integer, WebElement> foundFrames = new HashMap<Integer, WebElement>();
+
+	/**
+	 * Switches the driver from the current frame to the frame which is
+	 * described by the given sequential paths. Frames which are common for
+	 * the current frame path and the required one are not switched again.
+	 * 
+	 * @param driver is the instance of {@link WebDriver} 
+	 * On this instance the switching is performed
+	 * @param currentFramePath is the list of frame identifiers which were 
+	 * used to switch the driver into the current frame
+	 * @param framePaths are paths to the required frame. Each next path is 
+	 * relative to the previous one
+	 */
+	static void switchTo(WebDriver driver, List<Object> currentFramePath,
+			List<HowToGetByFrames> framePaths) {
+		List<HowToGetByFrames> owners = new ArrayList<HowToGetByFrames>();
+		List<Integer> positions = new ArrayList<Integer>();
+		framePaths.forEach((howToGetByFrames) -> {
+			for (int i = 0; i < howToGetByFrames.framePath.size(); i++) {
+				owners.add(howToGetByFrames);
+				positions.add(i);
+			}
+		});
+
+		int common = 0;
+		while (common < owners.size() && common < currentFramePath.size()
+				&& owners.get(common).isSwitchedOn(positions.get(common),
+						currentFramePath.get(common)))
+			common++;
+
+		try {
+			int toLeave = currentFramePath.size() - common;
+			int from = common;
+			// it chooses the cheapest way to get out of frames:
+			// parent frame is switched on step by step or 
+			// common frames are switched again from the default content
+			if (toLeave > 0 && toLeave <= common + 1) {
+				for (int i = 0; i < toLeave; i++)
+					driver.switchTo().parentFrame();
+			} else if (toLeave > 0) {
+				driver.switchTo().defaultContent();
+				from = 0;
+			}
+			for (int i = from; i < owners.size(); i++)
+				owners.get(i).switchTo(driver, positions.get(i));
+		} catch (NoSuchFrameException | StaleElementReferenceException
+				| UnsupportedCommandException e) {
+			// known frame path might be out of date. So all frames are
+			// switched again
+			driver.switchTo().defaultContent();
+			for (int i = 0; i < owners.size(); i++)
+				owners.get(i).switchTo(driver, positions.get(i));
+		}
+	}
 
 	/**
 	 * This method performs the switching from
@@ -37,28 +99,66 @@ public class HowToGetByFrames {
 	 * @see TargetLocator
 	 */
 	public void switchTo(WebDriver driver) {
-		framePath.forEach((frameIdentifier) -> {
-			if (frameIdentifier instanceof String) {
-				driver.switchTo().frame(String.valueOf(frameIdentifier));
-				return;
-			}
+		for (int i = 0; i < framePath.size(); i++)
+			switchTo(driver, i);
+	}
 
-			if (frameIdentifier instanceof Integer) {
-				driver.switchTo().frame((int) frameIdentifier);
-				return;
-			}
+	private void switchTo(WebDriver driver, int position) {
+		Object frameIdentifier = framePath.get(position);
+		if (frameIdentifier instanceof String) {
+			driver.switchTo().frame(String.valueOf(frameIdentifier));
+			return;
+		}
 
-			if (frameIdentifier instanceof By) {
-				driver.switchTo().frame(
-						driver.findElement((By) frameIdentifier));
-				return;
+		if (frameIdentifier instanceof Integer) {
+			driver.switchTo().frame((int) frameIdentifier);
+			return;
+		}
+
+		if (frameIdentifier instanceof By) {
+			WebElement frame = getFoundFrame(position);
+			if (frame != null) {
+				try {
+					driver.switchTo().frame(frame);
+					return;
+				} catch (StaleElementReferenceException e) {
+					// the frame should be found again
+				}
 			}
-			
-			if (frameIdentifier instanceof WebElement) {
-				driver.switchTo().frame((WebElement) frameIdentifier);
-				return;
-			}			
-		});
+			frame = driver.findElement((By) frameIdentifier);
+			setFoundFrame(position, frame);
+			driver.switchTo().frame(frame);
+			return;
+		}
+
+		if (frameIdentifier instanceof WebElement) {
+			driver.switchTo().frame((WebElement) frameIdentifier);
+			return;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the identifier at the given position 
+	 * is the same as the identifier which was used to switch the driver 
+	 * into the frame
+	 */
+	private boolean isSwitchedOn(int position, Object usedFrameIdentifier) {
+		Object frameIdentifier = framePath.get(position);
+		if (frameIdentifier instanceof By) {
+			return getFoundFrame(position) == usedFrameIdentifier;
+		}
+		if (frameIdentifier instanceof WebElement) {
+			return frameIdentifier == usedFrameIdentifier;
+		}
+		return frameIdentifier.equals(usedFrameIdentifier);
+	}
+
+	private synchronized WebElement getFoundFrame(int position) {
+		return foundFrames.get(position);
+	}
+
+	private synchronized void setFoundFrame(int position, WebElement frame) {
+		foundFrames.put(position, frame);
 	}
 
 	/**
@@ -1,8 +1,10 @@
 package com.github.arachnidium.core;
 
 import java.util.List;
+import java.util.regex.PatternSyntaxException;
 
 import com.github.arachnidium.core.fluenthandle.HowToGetHandle;
+import com.github.arachnidium.core.fluenthandle.PatternCache;
 import com.github.arachnidium.core.interfaces.ICloneable;
 
 /**
@@ -24,11 +26,13 @@ public class HowToGetMobileScreen extends HowToGetHandle implements ICloneable{
 	/**
 	 * @param expected context name.
 	 * A name can be defined as a regular expression
+	 * @throws PatternSyntaxException if the expression is invalid
 	 * 
 	 * @see com.github.arachnidium.core.fluenthandle.HowToGetHandle#setExpected(java.lang.String)
 	 */
 	@Override
 	public void setExpected(String contextRegExp) {
+		PatternCache.compile(contextRegExp);
 		super.setExpected(contextRegExp);
 	}
 
@@ -37,11 +41,13 @@ public class HowToGetMobileScreen extends HowToGetHandle implements ICloneable{
 	 * Each one activity can be defined as a regular expression.
 	 * 
 	 * This parameter is ignored by iOS
+	 * @throws PatternSyntaxException if an expression is invalid
 	 * 
 	 * @see com.github.arachnidium.core.fluenthandle.HowToGetHandle#setExpected(java.util.List)
 	 */
 	@Override
 	public void setExpected(List<String> activitiesRegExps) {
+		PatternCache.compile(activitiesRegExps);
 		super.setExpected(activitiesRegExps);
 	}
 	
@@ -1,8 +1,10 @@
 package com.github.arachnidium.core;
 
 import java.util.List;
+import java.util.regex.PatternSyntaxException;
 
 import com.github.arachnidium.core.fluenthandle.HowToGetHandle;
+import com.github.arachnidium.core.fluenthandle.PatternCache;
 import com.github.arachnidium.core.interfaces.ICloneable;
 
 /**
@@ -23,22 +25,26 @@ public class HowToGetPage extends HowToGetHandle implements ICloneable {
 	/**
 	 * @param expected window title.
 	 * A title can be defined as a regular expression
+	 * @throws PatternSyntaxException if the expression is invalid
 	 * 
 	 * @see com.github.arachnidium.core.fluenthandle.HowToGetHandle#setExpected(java.lang.String)
 	 */
 	@Override
 	public void setExpected(String titleRegExp) {
+		PatternCache.compile(titleRegExp);
 		super.setExpected(titleRegExp);
 	}
 
 	/**
 	 * @param Expected URLs.
 	 * Each one URL can be defined as a regular expression
+	 * @throws PatternSyntaxException if an expression is invalid
 	 *  
 	 * @see com.github.arachnidium.core.fluenthandle.HowToGetHandle#setExpected(java.util.List)
 	 */
 	@Override
 	public void setExpected(List<String> urlsRegExps) {
+		PatternCache.compile(urlsRegExps);
 		super.setExpected(urlsRegExps);
 	}
 	
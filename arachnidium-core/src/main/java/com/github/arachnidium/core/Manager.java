@@ -1,11 +1,17 @@
 package com.github.arachnidium.core;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 import com.github.arachnidium.util.logging.Log;
@@ -14,14 +20,22 @@ import com.github.arachnidium.util.proxy.EnhancedProxyFactory;
 
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.springframework.context.annotation.Bean;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 
+import com.github.arachnidium.core.bean.SessionBeanFactory;
 import com.github.arachnidium.core.components.common.AlertHandler;
 import com.github.arachnidium.core.components.common.Awaiting;
+import com.github.arachnidium.core.components.common.WaitingScheduler;
 import com.github.arachnidium.core.fluenthandle.IHowToGetHandle;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
 import com.github.arachnidium.core.interfaces.IHasHandle;
+import com.github.arachnidium.core.polling.FixedPolling;
+import com.github.arachnidium.core.polling.PollingStrategy;
 import com.github.arachnidium.core.settings.AlertIsPresentTimeOut;
 import com.github.arachnidium.core.settings.HandleWaitingTimeOut;
 
@@ -33,7 +47,8 @@ import com.github.arachnidium.core.settings.HandleWaitingTimeOut;
  * @param <U> it is a s strategy of the {@link Handle} receiving
  * @param <V> it is the expected {@link Handle} class e.g {@link BrowserWindow} or {@link MobileScreen}
  */
-public abstract class Manager<U extends IHowToGetHandle, V extends Handle> implements IDestroyable {
+public abstract class Manager<U extends IHowToGetHandle, V extends Handle> implements IDestroyable,
+		IHandleStateObserver {
 
 	static long getTimeOut(Long possibleTimeOut) {
 		if (possibleTimeOut == null)
@@ -47,11 +62,107 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	boolean isAlive = true;
 	private final HandleReceptionist handleReceptionist = new HandleReceptionist();
 
-	private final static Map<WebDriverEncapsulation, Manager<?,?>> managerMap = Collections
-			.synchronizedMap(new HashMap<WebDriverEncapsulation, Manager<?,?>>());
+	// sessions and their managers are referenced weakly. So the session which
+	// is not destroyed doesn't stay in memory when it is not used anymore
+	private final static Map<SessionKey, WeakReference<Manager<?,?>>> managerMap = new ConcurrentHashMap<SessionKey, WeakReference<Manager<?,?>>>();
+	private final static ReferenceQueue<WebDriverEncapsulation> collectedSessions = new ReferenceQueue<WebDriverEncapsulation>();
 	final static long defaultTimeOut = 5; // we will wait
+	// known handles are requested again after this period (milliseconds)
+	final static long LIVE_HANDLES_RECHECK_PERIOD = 1000;
 	private String STUB_HANDLE = "STUB";
+	// window/context which is focused at the moment.
+	// It is null when it is unknown
+	private volatile String focusedHandle;
+	// frames which the driver is switched into.
+	// Elements are given frame indexes, names/ids or WebElements
+	private final List<Object> framePath = Collections
+			.synchronizedList(new ArrayList<Object>());
+	// it is false when the page is changed while the driver is switched
+	// into frames. A click, a submit or a script may load the new
+	// top level document and the driver leaves frames then
+	private volatile boolean isFramePathKnown = true;
 	
+	/**
+	 * Weak reference to {@link WebDriverEncapsulation}. Keys are
+	 * equal if they refer to the same object
+	 */
+	private static class SessionKey extends
+			WeakReference<WebDriverEncapsulation> {
+		private final int hash;
+
+		// the key for the registration
+		private SessionKey(WebDriverEncapsulation session,
+				ReferenceQueue<WebDriverEncapsulation> queue) {
+			super(session, queue);
+			hash = System.identityHashCode(session);
+		}
+
+		// the key for the searching
+		private SessionKey(WebDriverEncapsulation session) {
+			super(session);
+			hash = System.identityHashCode(session);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof SessionKey))
+				return false;
+			Object session = get();
+			return session != null && session == ((SessionKey) obj).get();
+		}
+	}
+
+	// removes managers of sessions which were garbage collected
+	// without the destroying
+	private static void expungeCollectedSessions() {
+		int count = 0;
+		Reference<?> collected;
+		while ((collected = collectedSessions.poll()) != null) {
+			if (managerMap.remove(collected) != null)
+				count++;
+		}
+		if (count > 0)
+			Log.debug(count
+					+ " session(s) were not destroyed before they were garbage collected");
+	}
+
+	/**
+	 * @return the number of {@link Manager} instances which are bound
+	 * with sessions that are not destroyed
+	 */
+	public static int getLiveManagerCount() {
+		expungeCollectedSessions();
+		int count = 0;
+		for (WeakReference<Manager<?,?>> manager : managerMap.values()) {
+			if (manager.get() != null)
+				count++;
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of windows/contexts which are instantiated
+	 * as {@link Handle} by {@link Manager} instances of all sessions
+	 * that are not destroyed
+	 */
+	public static int getLiveHandleCount() {
+		expungeCollectedSessions();
+		int count = 0;
+		for (WeakReference<Manager<?,?>> reference : managerMap.values()) {
+			Manager<?,?> manager = reference.get();
+			if (manager != null)
+				count += manager.handleReceptionist.getInstantiatedCount();
+		}
+		return count;
+	}
+
 	/**
 	 * @param driverEncapsulation
 	 *            Instantiated {@link WebDriverEncapsulation}
@@ -62,14 +173,22 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	@SuppressWarnings("unchecked")
 	public static <T extends Manager<?,?>> T getInstanstiatedManager(
 			WebDriverEncapsulation driverEncapsulation) {
-		return (T) managerMap.get(driverEncapsulation);
+		WeakReference<Manager<?,?>> manager = managerMap.get(new SessionKey(
+				driverEncapsulation));
+		if (manager == null)
+			return null;
+		return (T) manager.get();
 	}
 
 	Manager(WebDriverEncapsulation initialDriverEncapsulation) {
 		driverEncapsulation = initialDriverEncapsulation;
-		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver());
-		managerMap.put(driverEncapsulation, this);
+		awaiting = new Awaiting(driverEncapsulation.getWrappedDriver(),
+				driverEncapsulation::getPollingStrategy);
+		expungeCollectedSessions();
+		managerMap.put(new SessionKey(driverEncapsulation, collectedSessions),
+				new WeakReference<Manager<?,?>>(this));
 		driverEncapsulation.addDestroyable(this);
+		driverEncapsulation.addHandleStateObserver(this);
 	}
 
 	/**
@@ -84,8 +203,10 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 */
 	@Override
 	public void destroy() {
-		managerMap.remove(driverEncapsulation);
+		managerMap.remove(new SessionKey(driverEncapsulation));
 		isAlive = false;
+		handleReceptionist.invalidateLiveHandles();
+		resetFocus();
 		List<IHasHandle> toBeDestroyed = handleReceptionist.getInstantiated();
 		toBeDestroyed.forEach((hasHandle) -> ((IDestroyable) hasHandle)
 				.destroy());
@@ -164,6 +285,151 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 */
 	abstract Set<String> getHandles();
 
+	/**
+	 * @return Set of string window handles/context names. They are
+	 * requested from the server only if known handles were invalidated
+	 * by window/context events or they are out of date. The set
+	 * should not be modified
+	 */
+	Set<String> getLiveHandles() {
+		Set<String> handles = handleReceptionist
+				.getLiveHandles(LIVE_HANDLES_RECHECK_PERIOD);
+		if (handles != null)
+			return handles;
+		handles = getHandles();
+		handleReceptionist.setLiveHandles(handles);
+		return handles;
+	}
+
+	/**
+	 * Known handles become invalid when some window is closed
+	 * 
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenWindowIsClosed()
+	 */
+	@Override
+	public void whenWindowIsClosed() {
+		handleReceptionist.invalidateLiveHandles();
+		resetFocus();
+	}
+
+	/**
+	 * Known handles become invalid when it is detected that some
+	 * window/context doesn't exist
+	 * 
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenHandleIsLost()
+	 */
+	@Override
+	public void whenHandleIsLost() {
+		handleReceptionist.invalidateLiveHandles();
+		resetFocus();
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenFrameIsSwitchedOn(java.lang.Object)
+	 */
+	@Override
+	public void whenFrameIsSwitchedOn(Object frameIdentifier) {
+		framePath.add(frameIdentifier);
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenParentFrameIsSwitchedOn()
+	 */
+	@Override
+	public void whenParentFrameIsSwitchedOn() {
+		synchronized (framePath) {
+			if (framePath.size() > 0)
+				framePath.remove(framePath.size() - 1);
+		}
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenDefaultContentIsSwitchedOn()
+	 */
+	@Override
+	public void whenDefaultContentIsSwitchedOn() {
+		framePath.clear();
+		isFramePathKnown = true;
+	}
+
+	/**
+	 * If the driver is switched into frames then the frame path becomes
+	 * unknown. The driver will be switched to the default content
+	 * before the next switching to frames
+	 * 
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenPageIsChanged()
+	 */
+	@Override
+	public void whenPageIsChanged() {
+		if (!framePath.isEmpty())
+			isFramePathKnown = false;
+	}
+
+	/**
+	 * @return window handle/context name which is focused at the moment.
+	 * <code>null</code> means that it is unknown
+	 */
+	String getFocusedHandle() {
+		return focusedHandle;
+	}
+
+	/**
+	 * Remembers window handle/context name which is focused at the moment.
+	 * The switching on the window/context also switches the driver to 
+	 * the default content
+	 */
+	void setFocusedHandle(String handle) {
+		focusedHandle = handle;
+		framePath.clear();
+		isFramePathKnown = true;
+	}
+
+	/**
+	 * @return <code>true</code> if the driver is not switched into any frame
+	 */
+	boolean isOnDefaultContent() {
+		return isFramePathKnown && framePath.size() == 0;
+	}
+
+	/**
+	 * @return frames which the driver is switched into at the moment
+	 */
+	List<Object> getCurrentFramePath() {
+		synchronized (framePath) {
+			return new ArrayList<Object>(framePath);
+		}
+	}
+
+	/**
+	 * @param handle String window handle/context name
+	 * @return <code>true</code> if the given window/context is focused
+	 */
+	boolean isFocused(String handle) {
+		return handle.equals(focusedHandle);
+	}
+
+	/**
+	 * Forgets focused window/context
+	 */
+	void resetFocus() {
+		focusedHandle = null;
+		framePath.clear();
+		isFramePathKnown = true;
+	}
+
+	/**
+	 * Forgets known and instantiated windows/contexts and the focus.
+	 * It is used when the session is reset without the quitting. 
+	 * Proxies which were returned before find the window/context again 
+	 * by their strategies because instantiated objects are destroyed
+	 */
+	void reset() {
+		handleReceptionist.invalidateLiveHandles();
+		resetFocus();
+		handleReceptionist.getInstantiated().forEach((hasHandle) -> ((IDestroyable) hasHandle)
+				.destroy());
+	}
+
 	/**
 	 * Returns window on mobile context 
 	 * by conditions. 
@@ -192,10 +458,15 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * 
 	 * @see IHowToGetHandle. 
 	 */
-	@SuppressWarnings("unchecked")
 	public V getHandle(long timeOut, U howToGet){
-		HandleInterceptor<U> hi = new HandleInterceptor<U>(
-				this, howToGet, timeOut);
+		return getHandleProxy(new HandleInterceptor<U>(this, howToGet,
+				timeOut));
+	}
+
+	// returns CGLIB proxy which invokes the window/mobile context
+	// instantiated by the given interceptor
+	@SuppressWarnings("unchecked")
+	private V getHandleProxy(HandleInterceptor<U> hi) {
 		Class<?>[] params = new Class<?>[] {String.class, this.getClass()};
 		Object[] values = new Object[] {STUB_HANDLE, this};
 		ParameterizedType generic = (ParameterizedType) this.getClass().getGenericSuperclass();
@@ -223,6 +494,169 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 */
 	abstract V getRealHandle(long timeOut, U howToGet);	
 
+	/**
+	 * @param handle String window handle/context name
+	 * @return Window or mobile context which is already 
+	 * instantiated or the new one
+	 */
+	abstract V getRealHandle(String handle);
+
+	/**
+	 * Returns the first found window or mobile context which 
+	 * matches any of given strategies. All strategies are checked 
+	 * during the same polling pass, so titles, URLs etc. are requested 
+	 * once for all of them.
+	 * 
+	 * @param strategies Given strategies.
+	 * @return {@link HandleMatch} which contains found window or 
+	 * mobile context and the matched strategy
+	 * 
+	 * @see IHowToGetHandle
+	 */
+	@SafeVarargs
+	public final HandleMatch<U, V> getAnyHandle(U... strategies) {
+		return getAnyHandle(getTimeOut(getHandleWaitingTimeOut()
+				.getHandleWaitingTimeOut()), strategies);
+	}
+
+	/**
+	 * Returns the first found window or mobile context which 
+	 * matches any of given strategies. All strategies are checked 
+	 * during the same polling pass, so titles, URLs etc. are requested 
+	 * once for all of them.
+	 * 
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            window/mobile context is present
+	 * @param strategies Given strategies.
+	 * @return {@link HandleMatch} which contains found window or 
+	 * mobile context and the matched strategy. If strategies are matched 
+	 * simultaneously then the first given one is returned. The window or
+	 * mobile context is CGLIB proxy as {@link #getHandle(long, IHowToGetHandle)}
+	 * returns. It is found again by the matched strategy if the found one
+	 * doesn't exist anymore
+	 * 
+	 * @see IHowToGetHandle
+	 */
+	@SafeVarargs
+	public final HandleMatch<U, V> getAnyHandle(long timeOut, U... strategies) {
+		List<ExpectedCondition<String>> conditions = new ArrayList<ExpectedCondition<String>>();
+		for (U strategy : strategies)
+			conditions.add(getExpectedCondition(strategy));
+
+		int[] matched = new int[] { -1 };
+		ExpectedCondition<String> anyCondition = from -> {
+			NotFoundException notFound = null;
+			for (int i = 0; i < conditions.size(); i++) {
+				try {
+					String handle = conditions.get(i).apply(from);
+					if (handle != null) {
+						matched[0] = i;
+						return handle;
+					}
+				} catch (NotFoundException e) {
+					notFound = e;
+				}
+			}
+			if (notFound != null)
+				throw notFound;
+			return null;
+		};
+
+		try {
+			String handle = awaitHandle(timeOut, anyCondition);
+			U strategy = strategies[matched[0]];
+			return new HandleMatch<U, V>(getHandleProxy(new HandleInterceptor<U>(
+					this, strategy, timeOut, getRealHandle(handle))), strategy);
+		} catch (TimeoutException e) {
+			throw thereIsNoHandle("Can't find any of " 
+					+ Arrays.asList(strategies).toString(), e);
+		}
+	}
+
+	/**
+	 * @param howToGet Given strategy. It is cloned, so the given 
+	 * object is not changed
+	 * @return {@link ExpectedCondition} which returns window handle/context
+	 * name or <code>null</code> if it is not found yet
+	 */
+	abstract ExpectedCondition<String> getExpectedCondition(U howToGet);
+
+	/**
+	 * @param message is the description of the failed waiting
+	 * @param e is the caught {@link TimeoutException}
+	 * @return The exception which should be thrown when window/mobile
+	 * context is not found
+	 */
+	abstract WebDriverException thereIsNoHandle(String message,
+			TimeoutException e);
+
+	/**
+	 * @param howToGet is the strategy of the failed waiting
+	 * @param e is the caught {@link TimeoutException}
+	 * @return The exception which should be thrown when window/mobile
+	 * context is not found by the given strategy
+	 */
+	abstract WebDriverException thereIsNoHandle(U howToGet,
+			TimeoutException e);
+
+	/**
+	 * Waits for window on mobile context without blocking 
+	 * of the current thread. The {@link WebDriver} session should not 
+	 * be used by other threads until the returned future is completed. 
+	 * The waiting is interrupted when the returned future is cancelled.
+	 * 
+	 * @param howToGet Given strategy.
+	 * @return {@link CompletableFuture} which is completed by 
+	 * window or mobile context. If it is not found the future is completed 
+	 * by the same exception as {@link #getHandle(IHowToGetHandle)} would throw
+	 * 
+	 * @see IHowToGetHandle
+	 */
+	public CompletableFuture<V> getHandleAsync(U howToGet) {
+		return getHandleAsync(getTimeOut(getHandleWaitingTimeOut()
+				.getHandleWaitingTimeOut()), howToGet);
+	}
+
+	/**
+	 * Waits for window on mobile context without blocking 
+	 * of the current thread. The {@link WebDriver} session should not 
+	 * be used by other threads until the returned future is completed. 
+	 * The waiting is interrupted when the returned future is cancelled.
+	 * 
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            window/mobile context is present
+	 * @param howToGet Given strategy.
+	 * @return {@link CompletableFuture} which is completed by 
+	 * window or mobile context. If it is not found the future is completed 
+	 * by the same exception as {@link #getHandle(long, IHowToGetHandle)} 
+	 * would throw
+	 * 
+	 * @see IHowToGetHandle
+	 */
+	public CompletableFuture<V> getHandleAsync(long timeOut, U howToGet) {
+		CompletableFuture<V> result = new CompletableFuture<V>();
+		CompletableFuture<String> waiting = awaitHandleAsync(timeOut,
+				getExpectedCondition(howToGet));
+		waiting.whenComplete((handle, t) -> {
+			if (t instanceof TimeoutException)
+				t = thereIsNoHandle(howToGet, (TimeoutException) t);
+			if (t != null) {
+				result.completeExceptionally(t);
+				return;
+			}
+			try {
+				result.complete(getRealHandle(handle));
+			} catch (Throwable t2) {
+				result.completeExceptionally(t2);
+			}
+		});
+		result.whenComplete((handle, t) -> {
+			if (result.isCancelled())
+				waiting.cancel(false);
+		});
+		return result;
+	}
+
 	WebDriverEncapsulation getWebDriverEncapsulation() {
 		return driverEncapsulation;
 	}
@@ -248,6 +682,27 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 		changeActive(Handle);
 	}
 
+	/**
+	 * Sets focus on window/mobile context by string 
+	 * parameter and switches the driver to the frame. 
+	 * Frames are not switched again if the driver is already 
+	 * inside them
+	 * 
+	 * @param handle String window handle/context name
+	 * @param framePaths Sequential paths to the required frame.
+	 * Each next path is relative to the previous one
+	 */
+	synchronized void switchTo(String handle, List<HowToGetByFrames> framePaths) {
+		if (!isFocused(handle))
+			changeActive(handle);
+		if (!isFramePathKnown) {
+			getWrappedDriver().switchTo().defaultContent();
+			whenDefaultContentIsSwitchedOn();
+		}
+		HowToGetByFrames.switchTo(getWrappedDriver(), getCurrentFramePath(),
+				framePaths);
+	}
+
 	/**
 	 * @param timeOut It is an explicitly given time (seconds) to wait for
 	 *            window/mobile context is present
@@ -319,18 +774,68 @@ public abstract class Manager<U extends IHowToGetHandle, V extends Handle> imple
 	 * Gets a new created listenable {@link Handle} and notifies listener
 	 * that there it is a new object
 	 * 
-	 * @param handle instantiated {@link Handle}
-	 * @param beanName Is a name of the {@link Bean}
+	 * @param result listenable {@link Handle} instance which
+	 * is given by {@link SessionBeanFactory}
 	 * @return listenable {@link Handle} instance
 	 */
-	@SuppressWarnings("unchecked")
-	<T extends Handle> T returnNewCreatedListenableHandle(Handle handle, String beanName){
-		T result = (T) driverEncapsulation.context.getBean(beanName, handle);
+	<T extends Handle> T returnNewCreatedListenableHandle(T result){
 		result.whenIsCreated();
 		getHandleReceptionist().addKnown(result);
 		return result;
 	}
 	
+	/**
+	 * Waits for window/mobile context.
+	 * 
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            window/mobile context is present
+	 * @param condition It returns window handle/context name 
+	 * @return Window handle/context name
+	 * @throws TimeoutException
+	 * 
+	 * @see HandleWatcher
+	 */
+	String awaitHandle(long timeOut, ExpectedCondition<String> condition)
+			throws TimeoutException {
+		return driverEncapsulation.handleWatcher.await(getWrappedDriver(),
+				this::requestLiveHandles, getHandlePollingStrategy(), timeOut,
+				condition);
+	}
+
+	/**
+	 * Waits for window/mobile context without blocking of the current 
+	 * thread. Attempts are performed by {@link WaitingScheduler}.
+	 * 
+	 * @param timeOut It is an explicitly given time (seconds) to wait for
+	 *            window/mobile context is present
+	 * @param condition It returns window handle/context name 
+	 * @return {@link CompletableFuture} which is completed by window 
+	 * handle/context name or by {@link TimeoutException}
+	 * 
+	 * @see HandleWatcher
+	 */
+	CompletableFuture<String> awaitHandleAsync(long timeOut,
+			ExpectedCondition<String> condition) {
+		return driverEncapsulation.handleWatcher.awaitAsync(getWrappedDriver(),
+				this::requestLiveHandles, getHandlePollingStrategy(), timeOut,
+				condition, WaitingScheduler.getScheduler());
+	}
+
+	private Set<String> requestLiveHandles() {
+		Set<String> handles = getHandles();
+		handleReceptionist.setLiveHandles(handles);
+		return handles;
+	}
+
+	// all waitings for windows/contexts use the same copy
+	// of the configured strategy
+	private PollingStrategy getHandlePollingStrategy() {
+		PollingStrategy strategy = awaiting.getPollingStrategy(HandleWatcher.class);
+		if (strategy == null)
+			return new FixedPolling(HandleWatcher.DEFAULT_POLLING_PERIOD);
+		return strategy;
+	}
+
 	HandleWaitingTimeOut getHandleWaitingTimeOut() {
 		return driverEncapsulation.getWrappedConfiguration()
 				.getSection(HandleWaitingTimeOut.class);
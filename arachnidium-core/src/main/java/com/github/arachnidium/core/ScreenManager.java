@@ -10,7 +10,6 @@ import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
-import com.github.arachnidium.core.bean.MainBeanConfiguration;
 import com.github.arachnidium.core.components.mobile.ContextTool;
 import com.github.arachnidium.core.fluenthandle.FluentPageWaiting;
 import com.github.arachnidium.core.fluenthandle.FluentScreenWaiting;
@@ -23,6 +22,8 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 	private final String NATIVE_APP_CONTEXT = "NATIVE_APP";
 	private String SPLITTER = "/";
 	private String WEBVIEW_CONTEXT = "WEBVIEW";
+	// page inside WEBVIEW context which is focused at the moment
+	private volatile String focusedPage;
 
 	public ScreenManager(WebDriverEncapsulation initialDriverEncapsulation) {
 		super(initialDriverEncapsulation);
@@ -42,14 +43,21 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 	@Override
 	void changeActive(String context) throws NoSuchContextException {
 		String[] handles = context.split(SPLITTER);
-		contextTool.context(handles[0]);
+		if (!handles[0].equals(getFocusedHandle()))
+			contextTool.context(handles[0]);
 		if (handles.length == 1){
 			return;
 		}
 		if (handles.length == 2 && handles[0].contains(NATIVE_APP_CONTEXT))
 			throw new IllegalArgumentException("In cases when you want to get to the page you should be "
 					+ "inside " + WEBVIEW_CONTEXT + " context. The current context is " + handles[0]);
-		getWrappedDriver().switchTo().window(handles[1]);		
+		if (!handles[1].equals(focusedPage)){
+			getWrappedDriver().switchTo().window(handles[1]);
+			return;
+		}
+		// the page is already focused. Only frames may need to be left
+		if (!isOnDefaultContent())
+			getWrappedDriver().switchTo().defaultContent();
 	}
 
 	private HowToGetMobileScreen isSupportActivities(
@@ -60,6 +68,49 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 		return howToGet;
 	}
 
+	/**
+	 * @see com.github.arachnidium.core.Manager#isFocused(java.lang.String)
+	 */
+	@Override
+	boolean isFocused(String context) {
+		String[] handles = context.split(SPLITTER);
+		if (!handles[0].equals(getFocusedHandle()))
+			return false;
+		return handles.length == 1 || handles[1].equals(focusedPage);
+	}
+
+	/**
+	 * The switched context is known as existing and focused
+	 * 
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenContextIsSwitchedOn(java.lang.String)
+	 */
+	@Override
+	public void whenContextIsSwitchedOn(String context) {
+		getHandleReceptionist().confirmLiveHandle(context);
+		setFocusedHandle(context);
+		focusedPage = null;
+	}
+
+	/**
+	 * The switched page inside WEBVIEW context is focused
+	 * 
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenWindowIsSwitchedOn(java.lang.String)
+	 */
+	@Override
+	public void whenWindowIsSwitchedOn(String handle) {
+		focusedPage = handle;
+		whenDefaultContentIsSwitchedOn();
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.Manager#resetFocus()
+	 */
+	@Override
+	void resetFocus() {
+		super.resetFocus();
+		focusedPage = null;
+	}
+
 	/**
 	 * @see com.github.arachnidium.core.Manager#getHandles()
 	 */
@@ -72,13 +123,27 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 	String getStringHandle(long timeOut, HowToGetMobileScreen howToGet)
 			throws NoSuchContextException {
 		HowToGetMobileScreen clone = howToGet.cloneThis();
-		HowToGetPage howToGetPage = clone.getHowToGetPageStrategy();
+		try {						
+			return awaitHandle(timeOut, getExpectedCondition(howToGet));
+			
+		} catch (TimeoutException e) {
+			throw thereIsNoHandle(clone, e);
+		}
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.Manager#getExpectedCondition(com.github.arachnidium.core.fluenthandle.IHowToGetHandle)
+	 */
+	@Override
+	ExpectedCondition<String> getExpectedCondition(HowToGetMobileScreen howToGet) {
+		HowToGetMobileScreen supported = isSupportActivities(howToGet.cloneThis());
+		HowToGetPage howToGetPage = supported.getHowToGetPageStrategy();
 		
 		//This expected condition tries to find context.
 		//If WEBVIEW is found and page parameters are defined 
 		//then it attempts to find a required page inside WEBVIEW
-		ExpectedCondition<String> ec = input -> {
-			String context = clone.getExpectedCondition(new FluentScreenWaiting()).apply(input);
+		return input -> {
+			String context = supported.getExpectedCondition(new FluentScreenWaiting()).apply(input);
 			if (howToGetPage == null)
 				return context;
 			
@@ -88,7 +153,8 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 								+ " So " + howToGetPage.toString() + " has been ignored.");
 				return context;
 			}				
-			String pageHandle = howToGetPage.getExpectedCondition(new FluentPageWaiting()).apply(input);
+			String pageHandle = howToGetPage.getExpectedCondition(new FluentPageWaiting(
+					getWebDriverEncapsulation().getPageMetadataCache())).apply(input);
 			if (pageHandle == null){
 				return null;
 			}
@@ -96,32 +162,46 @@ public final class ScreenManager extends Manager<HowToGetMobileScreen, MobileScr
 				return context + SPLITTER + pageHandle;
 			}
 		};
-		
-		try {						
-			return awaiting.
-					awaitCondition(timeOut, ec);
-			
-		} catch (TimeoutException e) {
-			String errorMessage = "Can't find screen! Condition is "
-					+ clone.toString() + ".";
-			if (howToGetPage != null){
-				errorMessage = errorMessage + " Defined page is " + howToGetPage.toString();
-			}
-			throw new NoSuchContextException(errorMessage, e);
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.Manager#thereIsNoHandle(java.lang.String, org.openqa.selenium.TimeoutException)
+	 */
+	@Override
+	NoSuchContextException thereIsNoHandle(String message, TimeoutException e) {
+		return new NoSuchContextException(message, e);
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.Manager#thereIsNoHandle(com.github.arachnidium.core.fluenthandle.IHowToGetHandle, org.openqa.selenium.TimeoutException)
+	 */
+	@Override
+	NoSuchContextException thereIsNoHandle(HowToGetMobileScreen howToGet,
+			TimeoutException e) {
+		HowToGetPage howToGetPage = howToGet.getHowToGetPageStrategy();
+		String errorMessage = "Can't find screen! Condition is "
+				+ howToGet.toString() + ".";
+		if (howToGetPage != null){
+			errorMessage = errorMessage + " Defined page is " + howToGetPage.toString();
 		}
+		return thereIsNoHandle(errorMessage, e);
 	}
 
 	@Override
 	MobileScreen getRealHandle(long timeOut,
 			HowToGetMobileScreen howToGet) {
-		String handle = this.getStringHandle(timeOut,
-				isSupportActivities(howToGet));
+		return getRealHandle(this.getStringHandle(timeOut,
+				isSupportActivities(howToGet)));
+	}
+
+	@Override
+	MobileScreen getRealHandle(String handle) {
 		MobileScreen initedContext = (MobileScreen) Handle.isInitiated(handle,
 				this);
 		if (initedContext != null)
 			return initedContext;
 		MobileScreen context = new MobileScreen(handle, this);
-		return returnNewCreatedListenableHandle(context,
-				MainBeanConfiguration.MOBILE_CONTEXT_BEAN);
+		return returnNewCreatedListenableHandle(getWebDriverEncapsulation()
+				.sessionBeanFactory.getContext(context));
 	}
 }
@@ -17,22 +17,33 @@
 
 package com.github.arachnidium.core;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import org.springframework.context.annotation.AnnotationConfigApplicationContext;
-import org.springframework.context.support.AbstractApplicationContext;
 
-import com.github.arachnidium.core.bean.MainBeanConfiguration;
+import com.github.arachnidium.core.bean.SessionBeanFactory;
 import com.github.arachnidium.core.components.ComponentFactory;
 import com.github.arachnidium.core.components.WebdriverComponent;
 import com.github.arachnidium.core.components.common.TimeOut;
+import com.github.arachnidium.core.components.common.WaitingScheduler;
+import com.github.arachnidium.core.fluenthandle.PageMetadataCache;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
+import com.github.arachnidium.core.polling.PollingStrategy;
+import com.github.arachnidium.core.settings.Polling;
+import com.github.arachnidium.core.settings.ScreenShots;
 import com.github.arachnidium.core.settings.supported.ESupportedDrivers;
 import com.github.arachnidium.util.configuration.Configuration;
 import com.github.arachnidium.util.configuration.interfaces.IConfigurable;
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
+import com.github.arachnidium.util.logging.FlightRecorder;
 import com.github.arachnidium.util.logging.Log;
 
 /**
@@ -43,14 +54,28 @@ import com.github.arachnidium.util.logging.Log;
 public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		WrapsDriver, IConfigurationWrapper {
 
+	private final static String BLANK_PAGE = "about:blank";
+	// alerts which can be dismissed one after another
+	private final static int MAX_ALERT_COUNT = 10;
+	private final static String CLEAR_STORAGE_SCRIPT = "try {window.localStorage.clear();} catch (e) {} "
+			+ "try {window.sessionStorage.clear();} catch (e) {}";
+
 	private final RemoteWebDriver enclosedDriver;
 
 	private Configuration configuration = Configuration.byDefault;
-	final AbstractApplicationContext context = new AnnotationConfigApplicationContext(
-			MainBeanConfiguration.class);
 	private final DestroyableObjects destroyableObjects = new DestroyableObjects();
+	private final HandleStateObservers handleStateObservers = new HandleStateObservers();
+	private final PageMetadataCache pageMetadataCache = new PageMetadataCache();
+	final SessionBeanFactory sessionBeanFactory = new SessionBeanFactory(
+			this, destroyableObjects, handleStateObservers, pageMetadataCache);
+	final HandleWatcher handleWatcher = new HandleWatcher(
+			WaitingScheduler.getScheduler());
 	private final TimeOut timeOut;
+	private volatile PollingStrategy pollingStrategy;
 	private final ESupportedDrivers instantiatedESupportedDriver;
+	// the browser window which was opened when the session was started.
+	// It is kept when the session is reset
+	private String firstWindow;
 
 	/**
 	 * Allows to instantiate the selected {@link WebDriver} by given parameters.
@@ -63,14 +88,17 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 			Object... values) {
 		try {
 			Class<? extends WebDriver> driverClass = supporteddriver.getUsingWebDriverClass();
+			handleStateObservers.add(pageMetadataCache);
+			handleStateObservers.add(handleWatcher);
 			
-			enclosedDriver = (RemoteWebDriver) context.getBean(
-					MainBeanConfiguration.WEBDRIVER_BEAN, context, this,
-					destroyableObjects, driverClass, values);
+			enclosedDriver = (RemoteWebDriver) sessionBeanFactory
+					.getWebdriver(driverClass, values);
 			Log.message("Getting started with " + driverClass.getSimpleName());
 			timeOut = getComponent(TimeOut.class);
 			resetAccordingTo(configuration);
 			this.instantiatedESupportedDriver = supporteddriver;
+			if (supporteddriver.isForBrowser())
+				firstWindow = enclosedDriver.getWindowHandle();
 			
 		} catch (Exception e) {
 			Log.error(
@@ -96,6 +124,89 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		}
 	}
 
+	/**
+	 * Makes the session like the new one without the quitting. 
+	 * Alerts are dismissed. Browser windows are closed except the first one
+	 * (it is the window which was opened when the session was started), 
+	 * cookies and local/session storage of each closed window are cleared 
+	 * and the remaining window is navigated to the blank page. WebDriver can
+	 * clear only the site data of the origin which a window is showing. So if
+	 * some origin was visited (see {@link PageMetadataCache#getVisitedOrigins()})
+	 * but no window is showing it now, then the session can't be fully cleaned
+	 * and the reset fails. 
+	 * Time outs are set according to the current {@link Configuration}. 
+	 * Known windows/contexts are forgotten. Windows/contexts which were 
+	 * given before are found again by their strategies. Log records which 
+	 * are kept by {@link FlightRecorder} for the current thread are forgotten.
+	 * 
+	 * @throws WebDriverException if the session can't be reset or it can't 
+	 * be fully cleaned. It is supposed that the session should be quit in 
+	 * this case
+	 */
+	public synchronized void reset() throws WebDriverException {
+		WebDriver driver = getWrappedDriver();
+		dismissAlerts(driver);
+		if (instantiatedESupportedDriver.isForBrowser()) {
+			List<String> windows = new ArrayList<String>(
+					driver.getWindowHandles());
+			// the order of handles is not defined
+			if (!windows.contains(firstWindow))
+				firstWindow = windows.get(0);
+			Set<String> clearedOrigins = new HashSet<String>();
+			for (String window : windows) {
+				if (window.equals(firstWindow))
+					continue;
+				driver.switchTo().window(window);
+				dismissAlerts(driver);
+				clearedOrigins.add(clearSiteData(driver));
+				driver.close();
+			}
+			driver.switchTo().window(firstWindow);
+			dismissAlerts(driver);
+			clearedOrigins.add(clearSiteData(driver));
+			driver.get(BLANK_PAGE);
+
+			Set<String> notCleared = pageMetadataCache.getVisitedOrigins();
+			pageMetadataCache.forgetVisitedOrigins();
+			notCleared.removeAll(clearedOrigins);
+			if (!notCleared.isEmpty())
+				throw new WebDriverException("Cookies and storage of "
+						+ notCleared + " can't be cleared");
+		}
+		timeOut.resetAccordingTo(configuration);
+		Manager<?, ?> manager = Manager.getInstanstiatedManager(this);
+		if (manager != null)
+			manager.reset();
+		// records of the previous test shouldn't be published
+		// by the failure of the next one
+		FlightRecorder.discard();
+	}
+
+	private static void dismissAlerts(WebDriver driver) {
+		try {
+			for (int i = 0; i < MAX_ALERT_COUNT; i++)
+				driver.switchTo().alert().dismiss();
+		} catch (WebDriverException e) { // there is no alert or they are not supported
+			return;
+		}
+	}
+
+	// cookies and storage of the current page. It returns the origin
+	// of the page
+	private static String clearSiteData(WebDriver driver) {
+		String origin = PageMetadataCache.getOrigin(driver.getCurrentUrl());
+		driver.manage().deleteAllCookies();
+		if (!JavascriptExecutor.class.isAssignableFrom(driver.getClass()))
+			return origin;
+		try {
+			((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+		} catch (WebDriverException e) { // some pages don't allow it
+			Log.debug("Storage can't be cleared. " + e.getMessage());
+			return null;
+		}
+		return origin;
+	}
+
 	/**
 	 * adds an object which related to {@link Webdriver} and has to be "destroyed"
 	 * after quit
@@ -104,6 +215,25 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		destroyableObjects.add(destroyable);
 	}
 
+	/**
+	 * Destroys objects which were added by {@link #addDestroyable(IDestroyable)} 
+	 * (applications, page objects etc.) without the quitting. They are not 
+	 * destroyed again when the session is quit. {@link Manager} is kept 
+	 * because it serves the session until it is quit. It is invoked before
+	 * the session is given to another user
+	 */
+	public void destroyRelatedObjects() {
+		destroyableObjects.destroy(destroyable -> !(destroyable instanceof Manager));
+	}
+
+	/**
+	 * adds an object which should be notified when windows/contexts
+	 * are switched on, closed or lost
+	 */
+	public void addHandleStateObserver(IHandleStateObserver observer) {
+		handleStateObservers.add(observer);
+	}
+
 	/**
 	 * @param required {@link WebdriverComponent} subclass
 	 * @return The instance of required {@link WebdriverComponent} subclass
@@ -150,6 +280,22 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	public synchronized void resetAccordingTo(Configuration config) {
 		configuration = config;
 		timeOut.resetAccordingTo(configuration);
+		sessionBeanFactory.resetAccordingTo(configuration);
+		pollingStrategy = configuration.getSection(Polling.class)
+				.getPollingStrategy();
+		setUpFlightRecorder();
+	}
+
+	/**
+	 * Sets up {@link FlightRecorder} of the current thread according to
+	 * {@link ScreenShots} settings of this session. Other threads are not
+	 * affected. It is invoked when the session is configured. The thread
+	 * which takes the session created by another thread should invoke it
+	 */
+	public void setUpFlightRecorder() {
+		ScreenShots screenShots = configuration.getSection(ScreenShots.class);
+		FlightRecorder.setUp((int) Math.min(Integer.MAX_VALUE,
+				screenShots.getKeptRecords()), screenShots.getDumpLevel());
 	}
 
 	/**
@@ -162,6 +308,27 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 		return configuration;
 	}
 	
+	/**
+	 * @return {@link PageMetadataCache} which keeps known titles and URLs
+	 * of browser windows
+	 */
+	public PageMetadataCache getPageMetadataCache() {
+		return pageMetadataCache;
+	}
+
+	/**
+	 * @return {@link PollingStrategy} which is specified by {@link Polling}
+	 * settings or <code>null</code> if it is not specified. It is the same
+	 * object until the configuration is changed. Waitings which don't depend
+	 * on each other should use their own copies of it
+	 * 
+	 * @see PollingStrategy#copy()
+	 * @see com.github.arachnidium.core.components.common.Awaiting#getPollingStrategy(Class)
+	 */
+	public PollingStrategy getPollingStrategy() {
+		return pollingStrategy;
+	}
+
 	public TimeOut getTimeOut(){
 		return timeOut;
 	}
@@ -169,4 +336,4 @@ public class WebDriverEncapsulation implements IDestroyable, IConfigurable,
 	public ESupportedDrivers getInstantiatedSupportedDriver(){
 		return instantiatedESupportedDriver;
 	}
-}
\ No newline at end of file
+}
@@ -10,7 +10,6 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
-import com.github.arachnidium.core.bean.MainBeanConfiguration;
 import com.github.arachnidium.core.fluenthandle.FluentPageWaiting;
 import com.github.arachnidium.core.settings.WindowIsClosedTimeOut;
 
@@ -29,7 +28,14 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 	@Override
 	void changeActive(String handle) throws NoSuchWindowException,
 			UnhandledAlertException {
+		if (isFocused(handle)) {
+			// the window is already focused. Only frames may need to be left
+			if (!isOnDefaultContent())
+				getWrappedDriver().switchTo().defaultContent();
+			return;
+		}
 		Set<String> handles = getHandles();
+		getHandleReceptionist().setLiveHandles(handles);
 		if (!handles.contains(handle))
 			throw new NoSuchWindowException("There is no window with handle "
 					+ handle + "!");
@@ -90,6 +96,17 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 		}
 	}
 
+	/**
+	 * The switched window is known as existing and focused
+	 * 
+	 * @see com.github.arachnidium.core.interfaces.IHandleStateObserver#whenWindowIsSwitchedOn(java.lang.String)
+	 */
+	@Override
+	public void whenWindowIsSwitchedOn(String handle) {
+		getHandleReceptionist().confirmLiveHandle(handle);
+		setFocusedHandle(handle);
+	}
+
 	/**
 	 * @see com.github.arachnidium.core.Manager#getHandles()
 	 */
@@ -110,14 +127,39 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 			throws NoSuchWindowException {
 		HowToGetPage clone = howToGet.cloneThis();
 		try {
-			return awaiting.awaitCondition(timeOut,
-					clone.getExpectedCondition(new FluentPageWaiting()));
+			return awaitHandle(timeOut, getExpectedCondition(howToGet));
 		} catch (TimeoutException e) {
-			throw new NoSuchWindowException("Can't find window! Condition is "
-					+ clone.toString(), e);
+			throw thereIsNoHandle(clone, e);
 		}
 	}
 
+	/**
+	 * @see com.github.arachnidium.core.Manager#getExpectedCondition(com.github.arachnidium.core.fluenthandle.IHowToGetHandle)
+	 */
+	@Override
+	ExpectedCondition<String> getExpectedCondition(HowToGetPage howToGet) {
+		return howToGet.cloneThis().getExpectedCondition(new FluentPageWaiting(
+				getWebDriverEncapsulation().getPageMetadataCache()));
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.Manager#thereIsNoHandle(java.lang.String, org.openqa.selenium.TimeoutException)
+	 */
+	@Override
+	NoSuchWindowException thereIsNoHandle(String message, TimeoutException e) {
+		return new NoSuchWindowException(message, e);
+	}
+
+	/**
+	 * @see com.github.arachnidium.core.Manager#thereIsNoHandle(com.github.arachnidium.core.fluenthandle.IHowToGetHandle, org.openqa.selenium.TimeoutException)
+	 */
+	@Override
+	NoSuchWindowException thereIsNoHandle(HowToGetPage howToGet,
+			TimeoutException e) {
+		return thereIsNoHandle("Can't find window! Condition is "
+				+ howToGet.toString(), e);
+	}
+
 	// is browser window closed?
 	private static Boolean isClosed(final WebDriver from, String handle) {
 		Set<String> handles;
@@ -155,16 +197,19 @@ public final class WindowManager extends Manager<HowToGetPage, BrowserWindow> {
 	@Override
 	BrowserWindow getRealHandle(long timeOut,
 			HowToGetPage howToGet) {
-		String handle = this.getStringHandle(timeOut,
-				howToGet);
+		return getRealHandle(this.getStringHandle(timeOut,
+				howToGet));
+	}
+
+	@Override
+	BrowserWindow getRealHandle(String handle) {
 		BrowserWindow initedWindow = (BrowserWindow) Handle.isInitiated(
 				handle, this);
 		if (initedWindow != null) {
 			return initedWindow;
 		}
-		BrowserWindow window = new BrowserWindow(getStringHandle(timeOut,
-				howToGet), this);
-		return returnNewCreatedListenableHandle(window,
-				MainBeanConfiguration.WINDOW_BEAN);
+		BrowserWindow window = new BrowserWindow(handle, this);
+		return returnNewCreatedListenableHandle(getWebDriverEncapsulation()
+				.sessionBeanFactory.getWindow(window));
 	}
 }
\ No newline at end of file
@@ -3,11 +3,13 @@ package com.github.arachnidium.core.bean;
 import io.appium.java_client.android.AndroidDriver;
 
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.function.Supplier;
 
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
@@ -41,16 +43,10 @@ class AspectContextListener extends DefaultHandleListener implements
 				add((IContextListener) providers.next());
 		}
 	};
+	private final ListenerEventBus eventBus;
 	private final InvocationHandler contextListenerInvocationHandler = (proxy,
 			method, args) -> {
-		contextEventListeners.forEach((eventListener) -> {
-			try {
-				method.invoke(eventListener, args);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-			;
-		});
+		notifyContextListeners(method, args);
 		return null;
 	};
 
@@ -59,8 +55,14 @@ class AspectContextListener extends DefaultHandleListener implements
 					new Class[] { IContextListener.class },
 					contextListenerInvocationHandler);
 
-	public AspectContextListener(IConfigurationWrapper configurationWrapper) {
+	private void notifyContextListeners(Method method, Object[] args) {
+		eventBus.dispatch(contextEventListeners, method, args);
+	}
+
+	public AspectContextListener(IConfigurationWrapper configurationWrapper,
+			ListenerEventBus eventBus) {
 		super(configurationWrapper);
+		this.eventBus = eventBus;
 	}
 
 	/**
@@ -70,7 +72,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@Override
 	@BeforeTarget(targetClass = IContext.class, targetMethod = "switchToMe")
 	public void beforeIsSwitchedOn(@TargetParam IHasHandle handle) {
-		Log.debug("Attempt to switch to context " + handle.getHandle());
+		Log.debug(() -> "Attempt to switch to context " + handle.getHandle());
 		contextListenerProxy.beforeIsSwitchedOn(handle);
 	}
 
@@ -81,7 +83,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IContext.class, targetMethod = "switchToMe")
 	public void whenIsSwitchedOn(@TargetParam IHasHandle handle) {
-		Log.message("Current context is " + handle.getHandle()
+		Log.message(() -> "Current context is " + handle.getHandle()
 				+ getActivityDescription(handle));
 		contextListenerProxy.whenIsSwitchedOn(handle);
 	}
@@ -93,12 +95,13 @@ class AspectContextListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IContext.class, targetMethod = "whenIsCreated")
 	public void whenNewHandleIsAppeared(@TargetParam IHasHandle handle) {
-		String message = "A new context " + handle.getHandle()
+		Supplier<String> message = () -> "A new context " + handle.getHandle()
 				+ getActivityDescription(handle);
 		if (configurationWrapper.getWrappedConfiguration()
 				.getSection(ScreenShots.class)
 				.getToTakeScreenShotsOfNewHandles()) {
-			((ITakesPictureOfItSelf) handle).takeAPictureOfAnInfo(message);
+			((ITakesPictureOfItSelf) handle).takeAPictureOfAnInfo(message
+					.get());
 		} else {
 			Log.message(message);
 		}
@@ -123,6 +126,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@Override
 	@Around("execution(* com.github.arachnidium.core.interfaces.IHasHandle.*(..)) || "
 			+ "execution(* com.github.arachnidium.core.interfaces.ISwitchesToItself.*(..)) || "
+			+ "execution(* com.github.arachnidium.core.Handle.switchToMe(..)) || "
 			+ "execution(* org.openqa.selenium.Rotatable.*(..))")
 	public Object doAround(ProceedingJoinPoint point) throws Throwable {
 		launchMethod(point, this, WhenLaunch.BEFORE);
@@ -144,7 +148,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@BeforeTarget(targetClass = IContext.class, targetMethod = "rotate")
 	public void beforeIsRotated(@TargetParam IHasHandle handle,
 			@UseParameter(number = 0) ScreenOrientation orientation) {
-		Log.debug("Attempt to rotate screen. Context is " + handle.getHandle()
+		Log.debug(() -> "Attempt to rotate screen. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
 		contextListenerProxy.beforeIsRotated(handle, orientation);
@@ -158,7 +162,7 @@ class AspectContextListener extends DefaultHandleListener implements
 	@AfterTarget(targetClass = IContext.class, targetMethod = "rotate")
 	public void whenIsRotated(@TargetParam IHasHandle handle,
 			@UseParameter(number = 0) ScreenOrientation orientation) {
-		Log.debug("Screen was rotated. Context is " + handle.getHandle()
+		Log.debug(() -> "Screen was rotated. Context is " + handle.getHandle()
 				+ getActivityDescription(handle) + ", new orientation is "
 				+ orientation.toString());
 		contextListenerProxy.whenIsRotated(handle, orientation);
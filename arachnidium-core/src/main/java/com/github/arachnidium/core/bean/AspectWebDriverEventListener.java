@@ -7,6 +7,7 @@ import io.appium.java_client.android.AndroidElement;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.IOSElement;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -15,6 +16,7 @@ import java.util.ServiceLoader;
 
 import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
 import com.github.arachnidium.util.logging.Log;
+import com.github.arachnidium.util.logging.eAvailableLevels;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -22,31 +24,36 @@ import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ContextAware;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchContextException;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriver.Navigation;
 import org.openqa.selenium.WebDriver.Options;
+import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
-import org.springframework.context.support.AbstractApplicationContext;
 
 import com.github.arachnidium.core.eventlisteners.IWebDriverEventListener;
+import com.github.arachnidium.core.fluenthandle.PageMetadataCache;
 import com.github.arachnidium.core.highlighting.IWebElementHighlighter;
 import com.github.arachnidium.core.highlighting.WebElementHighLighter;
 import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
 
 @Aspect
 class AspectWebDriverEventListener extends AbstractAspect implements
 		IWebDriverEventListener {
 
 	private static enum HowToHighLightElement {
-		INFO {
+		INFO(eAvailableLevels.INFO) {
 			@Override
 			void highLight(IWebElementHighlighter highlighter,
 					WebDriver driver, WebElement element, String message) {
 				highlighter.highlightAsInfo(driver, element, message);
 			}
 		},
-		DEBUG {
+		DEBUG(eAvailableLevels.FINE) {
 			@Override
 			void highLight(IWebElementHighlighter highlighter,
 					WebDriver driver, WebElement element, String message) {
@@ -54,6 +61,12 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			}
 		};
 
+		private final eAvailableLevels level;
+
+		private HowToHighLightElement(eAvailableLevels level) {
+			this.level = level;
+		}
+
 		void highLight(IWebElementHighlighter highlighter, WebDriver driver,
 				WebElement element, String message) {
 			// does nothing
@@ -76,7 +89,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@SupportField
 	private final WebDriver driver;
 	private final WebElementHighLighter highLighter = new WebElementHighLighter();
-	private final AbstractApplicationContext context;
+	private final SessionBeanFactory sessionBeanFactory;
 	private final String POINTCUT_VALUE = "execution(* org.openqa.selenium.WebDriver.*(..)) || "
 			+ "execution(* org.openqa.selenium.WebElement.*(..)) ||"
 			+ "execution(* org.openqa.selenium.WebDriver.Navigation.*(..)) || "
@@ -93,6 +106,22 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			+ "execution(* io.appium.java_client.ios.IOSElement.*(..))"
 			;
 	private final IDestroyable destroyable;
+	private final IHandleStateObserver handleStateObserver;
+	private final PageMetadataCache pageMetadataCache;
+	private final ListenerEventBus eventBus;
+
+	// returns tag name, id, name and text of the element
+	private final static String ELEMENT_DESCRIPTION_SCRIPT = "var e = arguments[0]; "
+			+ "return [e.tagName ? e.tagName.toLowerCase() : '', "
+			+ "e.getAttribute('id'), e.getAttribute('name'), "
+			+ "e.innerText || e.textContent || ''];";
+	// the last described element
+	private WebElement describedElement;
+	private String description;
+	private long descriptionEpoch;
+	// it becomes false when it is found out that the session can't
+	// execute the description script (e.g. native mobile apps)
+	private boolean isDescriptionScriptSupported = true;
 
 	private final List<IWebDriverEventListener> additionalListeners = new ArrayList<IWebDriverEventListener>() {
 		private static final long serialVersionUID = 1L;
@@ -109,24 +138,26 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 			.newProxyInstance(IWebDriverEventListener.class.getClassLoader(),
 					new Class[] { IWebDriverEventListener.class }, (proxy,
 							method, args) -> {
-						additionalListeners.forEach((eventListener) -> {
-							try {
-								method.invoke(eventListener, args);
-							} catch (Exception e) {
-								throw new RuntimeException(e);
-							}
-
-						});
+						notifyAdditionalListeners(method, args);
 						return null;
 					});
 
+	private void notifyAdditionalListeners(Method method, Object[] args) {
+		eventBus.dispatch(additionalListeners, method, args);
+	}
+
 	public AspectWebDriverEventListener(final WebDriver driver,
 			IConfigurationWrapper configurationWrapper,
-			IDestroyable destroyable, AbstractApplicationContext context) {
+			IDestroyable destroyable, IHandleStateObserver handleStateObserver,
+			PageMetadataCache pageMetadataCache,
+			SessionBeanFactory sessionBeanFactory, ListenerEventBus eventBus) {
 		super(configurationWrapper);
 		this.driver = driver;
-		this.context = context;
+		this.sessionBeanFactory = sessionBeanFactory;
+		this.eventBus = eventBus;
 		this.destroyable = destroyable;
+		this.handleStateObserver = handleStateObserver;
+		this.pageMetadataCache = pageMetadataCache;
 	}
 
 	private static Class<?> getClassForProxy(Class<?> classOfObject) {
@@ -170,7 +201,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	 */
 	@Override
 	public void beforeNavigateTo(String url, WebDriver driver) {
-		Log.message("Attempt to navigate to another url. Required url is "
+		Log.message(() -> "Attempt to navigate to another url. Required url is "
 				+ url);
 		proxyListener.beforeNavigateTo(url, driver);
 	}
@@ -181,7 +212,12 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	 */
 	@Override
 	public void afterNavigateTo(String url, WebDriver driver) {
-		Log.message("Current URL is " + driver.getCurrentUrl());
+		pageMetadataCache.addVisitedUrl(url);
+		// navigation switches the driver to the top level content
+		handleStateObserver.whenDefaultContentIsSwitchedOn();
+		handleStateObserver.whenPageIsChanged();
+		Log.message(() -> "Current URL is "
+				+ pageMetadataCache.getCurrentUrl(driver));
 		proxyListener.afterNavigateTo(url, driver);
 	}
 
@@ -191,8 +227,8 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@BeforeTarget(targetClass = Navigation.class, targetMethod = "back")
 	@Override
 	public void beforeNavigateBack(@SupportParam WebDriver driver) {
-		Log.message("Attempt to navigate to previous url. Current url is "
-				+ driver.getCurrentUrl());
+		Log.message(() -> "Attempt to navigate to previous url. Current url is "
+				+ pageMetadataCache.getCurrentUrl(driver));
 		proxyListener.beforeNavigateBack(driver);
 	}
 
@@ -202,7 +238,10 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@AfterTarget(targetClass = Navigation.class, targetMethod = "back")
 	@Override
 	public void afterNavigateBack(@SupportParam WebDriver driver) {
-		Log.message("Current URL is  " + driver.getCurrentUrl());
+		handleStateObserver.whenDefaultContentIsSwitchedOn();
+		handleStateObserver.whenPageIsChanged();
+		Log.message(() -> "Current URL is  "
+				+ pageMetadataCache.getCurrentUrl(driver));
 		proxyListener.afterNavigateBack(driver);
 
 	}
@@ -213,8 +252,8 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@BeforeTarget(targetClass = Navigation.class, targetMethod = "forward")
 	@Override
 	public void beforeNavigateForward(@SupportParam WebDriver driver) {
-		Log.message("Attempt to navigate to next url. Current url is "
-				+ driver.getCurrentUrl());
+		Log.message(() -> "Attempt to navigate to next url. Current url is "
+				+ pageMetadataCache.getCurrentUrl(driver));
 		proxyListener.beforeNavigateForward(driver);
 	}
 
@@ -224,7 +263,10 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@AfterTarget(targetClass = Navigation.class, targetMethod = "forward")
 	@Override
 	public void afterNavigateForward(@SupportParam WebDriver driver) {
-		Log.message("Current URL is  " + driver.getCurrentUrl());
+		handleStateObserver.whenDefaultContentIsSwitchedOn();
+		handleStateObserver.whenPageIsChanged();
+		Log.message(() -> "Current URL is  "
+				+ pageMetadataCache.getCurrentUrl(driver));
 		proxyListener.afterNavigateForward(driver);
 	}
 
@@ -239,7 +281,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void beforeFindBy(@UseParameter(number = 0) By by,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for element by locator " + by.toString()
+		Log.debug(() -> "Searching for element by locator " + by.toString()
 				+ " has been started");
 		if (element != null) {
 			highlightElementAndLogAction(element, "Using root element",
@@ -259,7 +301,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterFindBy(@UseParameter(number = 0) By by,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for web element has been finished. Locator is "
+		Log.debug(() -> "Searching for web element has been finished. Locator is "
 				+ by.toString());
 		if (element != null) {
 			highlightElementAndLogAction(element, "Root element was used",
@@ -286,6 +328,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterClickOn(@TargetParam WebElement element,
 			@SupportParam WebDriver driver) {
+		handleStateObserver.whenPageIsChanged();
 		Log.message("Click on element has been successfully performed!");
 		proxyListener.afterClickOn(element, driver);
 	}
@@ -317,6 +360,8 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterChangeValueOf(@TargetParam WebElement element,
 			@SupportParam WebDriver driver) {
+		// e.g. ENTER may submit a form
+		handleStateObserver.whenPageIsChanged();
 		highlightElementAndLogAction(element,
 				"State after element value was changed.",
 				HowToHighLightElement.INFO);
@@ -344,6 +389,8 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterScript(@UseParameter(number = 0) String script,
 			@SupportParam WebDriver driver) {
+		if (!PageMetadataCache.PAGE_PROBE_SCRIPT.equals(script))
+			handleStateObserver.whenPageIsChanged();
 		proxyListener.afterScript(script, driver);
 	}
 
@@ -353,11 +400,73 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	 */
 	@Override
 	public void onException(Throwable throwable, WebDriver driver) {
-		Log.debug("An exception has been caught out."
+		Log.debug(() -> "An exception has been caught out."
 				+ throwable.getClass().getName() + ":" + throwable.getMessage());
+		if (throwable instanceof NoSuchWindowException
+				|| throwable instanceof NoSuchContextException) {
+			handleStateObserver.whenHandleIsLost();
+		}
 		proxyListener.onException(throwable, driver);
 	}
 
+	/**
+	 * Notifies {@link IHandleStateObserver} that window is switched on
+	 */
+	@AfterTarget(targetClass = TargetLocator.class, targetMethod = "window")
+	public void afterWindowIsSwitchedOn(@UseParameter(number = 0) String handle) {
+		handleStateObserver.whenWindowIsSwitchedOn(handle);
+	}
+
+	/**
+	 * Notifies {@link IHandleStateObserver} that context is switched on
+	 */
+	@AfterTarget(targetClass = ContextAware.class, targetMethod = "context")
+	public void afterContextIsSwitchedOn(@UseParameter(number = 0) String context) {
+		handleStateObserver.whenContextIsSwitchedOn(context);
+	}
+
+	/**
+	 * Notifies {@link IHandleStateObserver} that the page is refreshed and 
+	 * the driver is on the top level content
+	 */
+	@AfterTarget(targetClass = Navigation.class, targetMethod = "refresh")
+	public void afterRefresh(@SupportParam WebDriver driver) {
+		handleStateObserver.whenDefaultContentIsSwitchedOn();
+		handleStateObserver.whenPageIsChanged();
+	}
+
+	/**
+	 * Notifies {@link IHandleStateObserver} that frame is switched on
+	 */
+	@AfterTarget(targetClass = TargetLocator.class, targetMethod = "frame")
+	public void afterFrameIsSwitchedOn(@UseParameter(number = 0) Object frameIdentifier) {
+		handleStateObserver.whenFrameIsSwitchedOn(frameIdentifier);
+	}
+
+	/**
+	 * Notifies {@link IHandleStateObserver} that parent frame is switched on
+	 */
+	@AfterTarget(targetClass = TargetLocator.class, targetMethod = "parentFrame")
+	public void afterParentFrameIsSwitchedOn(@SupportParam WebDriver driver) {
+		handleStateObserver.whenParentFrameIsSwitchedOn();
+	}
+
+	/**
+	 * Notifies {@link IHandleStateObserver} that default content is switched on
+	 */
+	@AfterTarget(targetClass = TargetLocator.class, targetMethod = "defaultContent")
+	public void afterDefaultContentIsSwitchedOn(@SupportParam WebDriver driver) {
+		handleStateObserver.whenDefaultContentIsSwitchedOn();
+	}
+
+	/**
+	 * Notifies {@link IHandleStateObserver} that the current window is closed
+	 */
+	@AfterTarget(targetClass = WebDriver.class, targetMethod = "close")
+	public void afterWindowIsClosed(@SupportParam WebDriver driver) {
+		handleStateObserver.whenWindowIsClosed();
+	}
+
 	/**
 	 * @see com.github.arachnidium.core.eventlisteners.IWebDriverEventListener#afterAlertAccept(org.openqa.selenium.WebDriver,
 	 *      org.openqa.selenium.Alert)
@@ -391,7 +500,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterAlertSendKeys(@SupportParam WebDriver driver,
 			@TargetParam Alert alert, @UseParameter(number = 0) String keys) {
-		Log.message("String " + keys + " has been sent to alert");
+		Log.message(() -> "String " + keys + " has been sent to alert");
 		proxyListener.afterAlertSendKeys(driver, alert, keys);
 	}
 
@@ -403,6 +512,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterSubmit(@SupportParam WebDriver driver,
 			@TargetParam WebElement element) {
+		handleStateObserver.whenPageIsChanged();
 		Log.message("Submit has been performed successfully");
 		proxyListener.afterSubmit(driver, element);
 	}
@@ -439,7 +549,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void beforeAlertSendKeys(@SupportParam WebDriver driver,
 			@TargetParam Alert alert, String keys) {
-		Log.message("Attemt to send string " + keys + " to alert...");
+		Log.message(() -> "Attemt to send string " + keys + " to alert...");
 		proxyListener.beforeAlertSendKeys(driver, alert, keys);
 	}
 
@@ -476,7 +586,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void beforeFindBy(@UseParameter(number = 0) String byString,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for element by locator " + byString
+		Log.debug(() -> "Searching for element by locator " + byString
 				+ " has been started");
 		if (element != null) {
 			highlightElementAndLogAction(element, "Using root element",
@@ -504,7 +614,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	@Override
 	public void afterFindBy(@UseParameter(number = 0) String byString,
 			@TargetParam WebElement element, @SupportParam WebDriver driver) {
-		Log.debug("Searching for web element has been finished. Locator is "
+		Log.debug(() -> "Searching for web element has been finished. Locator is "
 				+ byString);
 		if (element != null) {
 			highlightElementAndLogAction(element, "Root element was used",
@@ -513,44 +623,110 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		proxyListener.afterFindBy(byString, element, driver);
 	}
 
+	private String addToDescription(String attribute, Object value,
+			String description) {
+		if (value == null)
+			return description;
+		if (value.equals(""))
+			return description;
+		return description + " " + attribute + ": " + String.valueOf(value);
+	}
+
 	private String addToDescription(WebElement element, String attribute,
 			String description) {
 		try {
-			if (element.getAttribute(attribute) == null)
-				return description;
-			if (element.getAttribute(attribute).equals(""))
-				return description;
-			description += " " + attribute + ": "
-					+ String.valueOf(element.getAttribute(attribute));
+			return addToDescription(attribute, element.getAttribute(attribute),
+					description);
 		} catch (Exception e) {
 		}
 		return description;
 	}
 
-	private String elementDescription(WebElement element) {
+	// tag name, id, name and text are requested one by one.
+	// It is used when the script can't be executed (e.g. native mobile apps)
+	private String requestDescription(WebElement element) {
+		String description = "";
+		String tagName = element.getTagName();
+		if (!String.valueOf(tagName).equals(""))
+			description += "tag:" + String.valueOf(tagName);
+		description = addToDescription(element, "id", description);
+		description = addToDescription(element, "name", description);
+		String text = element.getText();
+		if (!"".equals(text))
+			description += " ('" + String.valueOf(text) + "')";
+		return description;
+	}
+
+	// tag name, id, name and text are received by the one request.
+	// It returns null if the script can't be executed
+	private String requestDescriptionByScript(WebElement element) {
+		if (!isDescriptionScriptSupported
+				|| !JavascriptExecutor.class.isAssignableFrom(driver.getClass()))
+			return null;
+		Object result;
+		try {
+			result = ((JavascriptExecutor) driver).executeScript(
+					ELEMENT_DESCRIPTION_SCRIPT, element);
+		} catch (UnsupportedCommandException | UnsupportedOperationException e) {
+			// javascript is not supported or disabled (e.g. native context)
+			isDescriptionScriptSupported = false;
+			return null;
+		} catch (WebDriverException e) {
+			// it may be transient (e.g. an alert is present). The script
+			// is tried again next time
+			return null;
+		}
+		if (!(result instanceof List<?>) || ((List<?>) result).size() != 4) {
+			// the driver can't return the result of the script
+			isDescriptionScriptSupported = false;
+			return null;
+		}
+		List<?> values = (List<?>) result;
+		String description = "";
+		if (!String.valueOf(values.get(0)).equals(""))
+			description += "tag:" + String.valueOf(values.get(0));
+		description = addToDescription("id", values.get(1), description);
+		description = addToDescription("name", values.get(2), description);
+		String text = String.valueOf(values.get(3)).trim();
+		if (!"".equals(text))
+			description += " ('" + text + "')";
+		return description;
+	}
+
+	/**
+	 * The description is requested only once while the page
+	 * is not changed (see {@link PageMetadataCache#getEpoch()})
+	 */
+	private synchronized String elementDescription(WebElement element) {
 		String description = "";
 		if (element == null)
 			return description;
 
-		if (!String.valueOf(element.getTagName()).equals(""))
-			description += "tag:" + String.valueOf(element.getTagName());
-		description = addToDescription(element, "id", description);
-		description = addToDescription(element, "name", description);
-		if (!"".equals(element.getText()))
-			description += " ('" + String.valueOf(element.getText()) + "')";
+		long epoch = pageMetadataCache.getEpoch();
+		if (element == describedElement && epoch == descriptionEpoch)
+			return this.description;
+
+		description = requestDescriptionByScript(element);
+		if (description == null)
+			description = requestDescription(element);
 		if (!description.equals(""))
 			description = " Element is: " + description;
 
+		describedElement = element;
+		descriptionEpoch = epoch;
+		this.description = description;
 		return description;
 	}
 
 	private void highlightElementAndLogAction(WebElement element,
 			String logMessage, HowToHighLightElement howToHighLightElement) {
-		String elementDescription = elementDescription(element);
+		// nothing is requested if the message is filtered out
+		if (!Log.isLoggable(howToHighLightElement.level))
+			return;
 		highLighter.resetAccordingTo(configurationWrapper
 				.getWrappedConfiguration());
 		howToHighLightElement.highLight(highLighter, driver, element,
-				logMessage + elementDescription);
+				logMessage + elementDescription(element));
 	}
 
 	private Object transformToListenable(Object result) {
@@ -559,7 +735,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 		}
 		Object o = getListenable(result);
 		if (o != null) { // ...so listenable object will be returned! ha-ha-ha
-			result = context.getBean(MainBeanConfiguration.COMPONENT_BEAN, o);
+			result = sessionBeanFactory.getComponent(o);
 		}
 		return result;
 	}
@@ -572,8 +748,7 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 				if (getClassForProxy(o.getClass()) == null) {
 					proxyList.add(o);
 				}
-				proxyList.add(context.getBean(
-						MainBeanConfiguration.COMPONENT_BEAN, o));
+				proxyList.add(sessionBeanFactory.getComponent(o));
 			}
 			return proxyList;
 		} catch (Exception e) {
@@ -621,6 +796,8 @@ class AspectWebDriverEventListener extends AbstractAspect implements
 	public void beforeQuit(@SupportParam WebDriver driver) {
 		destroyable.destroy();
 		proxyListener.beforeQuit(driver);
+		// listeners receive all events before the session is finished
+		eventBus.flush();
 	}
 
 }
@@ -1,6 +1,7 @@
 package com.github.arachnidium.core.bean;
 
 import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -40,15 +41,10 @@ class AspectWindowListener extends DefaultHandleListener implements
 				add((IWindowListener) providers.next());	
 		}		
 	};
+	private final ListenerEventBus eventBus;
 	private final InvocationHandler windowListenerInvocationHandler = (proxy,
 			method, args) -> {
-		windowEventListeners.forEach((eventListener) -> {
-			try {
-				method.invoke(eventListener, args);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			};
-		});
+		notifyWindowListeners(method, args);
 		return null;
 	};
 
@@ -57,8 +53,14 @@ class AspectWindowListener extends DefaultHandleListener implements
 					new Class[] { IWindowListener.class },
 					windowListenerInvocationHandler);	
 	
-	public AspectWindowListener(IConfigurationWrapper configurationWrapper) {
+	private void notifyWindowListeners(Method method, Object[] args) {
+		eventBus.dispatch(windowEventListeners, method, args);
+	}
+
+	public AspectWindowListener(IConfigurationWrapper configurationWrapper,
+			ListenerEventBus eventBus) {
 		super(configurationWrapper);
+		this.eventBus = eventBus;
 	}
 
 	/**
@@ -68,7 +70,8 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@BeforeTarget(targetClass = IExtendedWindow.class, targetMethod = "switchToMe")
 	public void beforeIsSwitchedOn(@TargetParam IHasHandle handle) {
-		Log.debug("Attempt to switch window on by handle " + handle.getHandle());
+		Log.debug(() -> "Attempt to switch window on by handle "
+				+ handle.getHandle());
 		windowListenerProxy.beforeIsSwitchedOn(handle);
 	}
 
@@ -104,7 +107,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@BeforeTarget(targetClass = IExtendedWindow.class, targetMethod = "setPosition")
 	public void beforeWindowIsMoved(@TargetParam IExtendedWindow window, @UseParameter(number =0) Point point) {
-		Log.message("Attempt to change window position. X "
+		Log.message(() -> "Attempt to change window position. X "
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
@@ -132,19 +135,20 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@BeforeTarget(targetClass = IExtendedWindow.class, targetMethod = "setSize")
 	public void beforeWindowIsResized(@TargetParam  IExtendedWindow window,
 			@UseParameter(number=0) Dimension dimension) {
-		Log.message("Attempt to change window size. New height is "
+		Log.message(() -> "Attempt to change window size. New height is "
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
 		windowListenerProxy.beforeWindowIsResized(window, dimension);
 	}
 
+	// the URL is not requested if the message is filtered out
 	private void postWindowUrl(IExtendedWindow window) {
 		try {
-			Log.message("URL is " + window.getCurrentUrl());
+			Log.message(() -> "URL is " + window.getCurrentUrl());
 		} catch (TimeoutException e) {
-			Log.debug("Couldn't get the current URL. " + e.getClass() + " :"
-					+ e.getMessage() + " was caught");
+			Log.debug(() -> "Couldn't get the current URL. " + e.getClass()
+					+ " :" + e.getMessage() + " was caught");
 		}
 	}
 
@@ -208,7 +212,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IExtendedWindow.class, targetMethod = "setPosition")
 	public void whenWindowIsMoved(@TargetParam IExtendedWindow window, @UseParameter(number =0) Point point) {
-		Log.message("Window position has been changed to X "
+		Log.message(() -> "Window position has been changed to X "
 				+ Integer.toString(point.getX()) + " Y "
 				+ Integer.toString(point.getY()));
 		postWindowUrl(window);
@@ -235,7 +239,7 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@AfterTarget(targetClass = IExtendedWindow.class, targetMethod = "setSize")
 	public void whenWindowIsResized(@TargetParam IExtendedWindow window, @UseParameter(number=0) Dimension dimension) {
-		Log.message("Window size has been changed! New height is "
+		Log.message(() -> "Window size has been changed! New height is "
 				+ Integer.toString(dimension.getHeight()) + " new width is "
 				+ Integer.toString(dimension.getWidth()));
 		postWindowUrl(window);
@@ -248,7 +252,8 @@ class AspectWindowListener extends DefaultHandleListener implements
 	@Override
 	@Around("execution(* com.github.arachnidium.core.interfaces.IExtendedWindow.*(..)) || "
 			+ "execution(* com.github.arachnidium.core.interfaces.IHasHandle.*(..)) || "
-			+ "execution(* com.github.arachnidium.core.interfaces.ISwitchesToItself.*(..)) || " +
+			+ "execution(* com.github.arachnidium.core.interfaces.ISwitchesToItself.*(..)) || "
+			+ "execution(* com.github.arachnidium.core.Handle.switchToMe(..)) || " +
 			"execution(* org.openqa.selenium.WebDriver.Window.*(..))")
 	public Object doAround(ProceedingJoinPoint point) throws Throwable {
 		launchMethod(point, this, WhenLaunch.BEFORE);
@@ -0,0 +1,230 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.JoinPoint;
+
+import com.github.arachnidium.core.bean.AbstractAspect.AfterTarget;
+import com.github.arachnidium.core.bean.AbstractAspect.BeforeTarget;
+import com.github.arachnidium.core.bean.AbstractAspect.SupportField;
+import com.github.arachnidium.core.bean.AbstractAspect.SupportParam;
+import com.github.arachnidium.core.bean.AbstractAspect.TargetParam;
+import com.github.arachnidium.core.bean.AbstractAspect.UseParameter;
+import com.github.arachnidium.core.bean.AbstractAspect.WhenLaunch;
+
+/**
+ * Listener methods of the aspect class. Annotations, parameters
+ * and fields are read only once for each aspect class. The found
+ * listener method is remembered for each combination of the target class,
+ * the target method name and {@link WhenLaunch}. Listener methods
+ * are invoked by {@link MethodHandle}s with arguments which are
+ * bound by precomputed binders.
+ */
+final class ListenerDispatchTable {
+	private final static MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private final static MethodType INVOKER_TYPE = MethodType.methodType(
+			void.class, Object.class, Object[].class);
+	private final static Map<Class<?>, ListenerDispatchTable> tables = new ConcurrentHashMap<Class<?>, ListenerDispatchTable>();
+
+	/**
+	 * Returns a value of the listener method parameter
+	 */
+	@FunctionalInterface
+	private static interface ArgumentBinder {
+		Object bind(Object aspectObject, JoinPoint joinPoint) throws Throwable;
+	}
+
+	/**
+	 * The listener method which is annotated by
+	 * {@link BeforeTarget} or {@link AfterTarget}
+	 */
+	private static class ListenerMethod {
+		private final Method method;
+		private final List<Class<?>> targetClasses = new ArrayList<Class<?>>();
+		private final List<String> targetMethods = new ArrayList<String>();
+
+		private ListenerMethod(Method method, Annotation[] annotations) {
+			this.method = method;
+			for (Annotation a : annotations) {
+				if (a instanceof BeforeTarget) {
+					targetClasses.add(((BeforeTarget) a).targetClass());
+					targetMethods.add(((BeforeTarget) a).targetMethod());
+				} else {
+					targetClasses.add(((AfterTarget) a).targetClass());
+					targetMethods.add(((AfterTarget) a).targetMethod());
+				}
+			}
+		}
+
+		private boolean isSuitable(Class<?> targetClass, String methodName) {
+			if (!targetMethods.contains(methodName))
+				return false;
+			for (Class<?> c : targetClasses) {
+				if (c.isAssignableFrom(targetClass))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * The listener method which is bound to the certain target class
+	 * and the target method
+	 */
+	private static class Dispatch {
+		private final MethodHandle invoker;
+		private final ArgumentBinder[] binders;
+
+		private Dispatch(MethodHandle invoker, ArgumentBinder[] binders) {
+			this.invoker = invoker;
+			this.binders = binders;
+		}
+
+		private void invoke(Object aspectObject, JoinPoint joinPoint)
+				throws Throwable {
+			Object[] values = new Object[binders.length];
+			for (int i = 0; i < binders.length; i++)
+				values[i] = binders[i].bind(aspectObject, joinPoint);
+			invoker.invokeExact(aspectObject, values);
+		}
+	}
+
+	// there is no listener method for the target method
+	private final static Dispatch NO_DISPATCH = new Dispatch(null,
+			new ArgumentBinder[] {});
+
+	private final Class<?> aspectClass;
+	private final Map<WhenLaunch, List<ListenerMethod>> listenerMethods = new EnumMap<WhenLaunch, List<ListenerMethod>>(
+			WhenLaunch.class);
+	// when -> target class -> target method name -> dispatch
+	private final Map<WhenLaunch, Map<Class<?>, Map<String, Dispatch>>> dispatches = new EnumMap<WhenLaunch, Map<Class<?>, Map<String, Dispatch>>>(
+			WhenLaunch.class);
+
+	private ListenerDispatchTable(Class<?> aspectClass) {
+		this.aspectClass = aspectClass;
+		Method[] methods = aspectClass.getDeclaredMethods();
+		for (WhenLaunch when : WhenLaunch.values()) {
+			List<ListenerMethod> result = new ArrayList<ListenerMethod>();
+			for (Method m : methods) {
+				Annotation[] annotations = when.getAnnotations(m);
+				if (annotations.length == 0)
+					continue;
+				result.add(new ListenerMethod(m, annotations));
+			}
+			listenerMethods.put(when, Collections.unmodifiableList(result));
+			dispatches.put(when,
+					new ConcurrentHashMap<Class<?>, Map<String, Dispatch>>());
+		}
+	}
+
+	/**
+	 * @param aspectClass is a class of the aspect
+	 * @return listener methods of the given aspect class
+	 */
+	static ListenerDispatchTable getTable(Class<?> aspectClass) {
+		return tables.computeIfAbsent(aspectClass, ListenerDispatchTable::new);
+	}
+
+	private MethodHandle getSupportFieldGetter(Class<?> requiredClass)
+			throws IllegalAccessException {
+		for (Field f : aspectClass.getDeclaredFields()) {
+			if (!f.isAnnotationPresent(SupportField.class))
+				continue;
+			if (!requiredClass.isAssignableFrom(f.getType()))
+				continue;
+			f.setAccessible(true);
+			return LOOKUP.unreflectGetter(f).asType(
+					MethodType.methodType(Object.class, Object.class));
+		}
+		return null;
+	}
+
+	private ArgumentBinder getBinder(Parameter parameter, Class<?> targetClass)
+			throws IllegalAccessException {
+		// if the parameter is marked by several annotations
+		// the last of them is used
+		UseParameter useParameter = parameter.getAnnotation(UseParameter.class);
+		if (useParameter != null) {
+			int index = useParameter.number();
+			return (aspectObject, joinPoint) -> joinPoint.getArgs()[index];
+		}
+		if (parameter.isAnnotationPresent(SupportParam.class)) {
+			MethodHandle getter = getSupportFieldGetter(parameter.getType());
+			if (getter == null)
+				return (aspectObject, joinPoint) -> null;
+			return (aspectObject, joinPoint) -> (Object) getter
+					.invokeExact(aspectObject);
+		}
+		if (parameter.isAnnotationPresent(TargetParam.class)
+				&& parameter.getType().isAssignableFrom(targetClass))
+			return (aspectObject, joinPoint) -> joinPoint.getTarget();
+		return (aspectObject, joinPoint) -> null;
+	}
+
+	private Dispatch createDispatch(WhenLaunch when, Class<?> targetClass,
+			String methodName) {
+		for (ListenerMethod listenerMethod : listenerMethods.get(when)) {
+			if (!listenerMethod.isSuitable(targetClass, methodName))
+				continue;
+			Method m = listenerMethod.method;
+			try {
+				Parameter[] parameters = m.getParameters();
+				ArgumentBinder[] binders = new ArgumentBinder[parameters.length];
+				for (int i = 0; i < parameters.length; i++)
+					binders[i] = getBinder(parameters[i], targetClass);
+				m.setAccessible(true);
+				MethodHandle invoker = LOOKUP.unreflect(m)
+						.asSpreader(Object[].class, parameters.length)
+						.asType(INVOKER_TYPE);
+				return new Dispatch(invoker, binders);
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		return NO_DISPATCH;
+	}
+
+	/**
+	 * Runs the listener method which is suitable for the target
+	 * method of the given {@link JoinPoint}
+	 *
+	 * @param joinPoint is the intercepted invocation
+	 * @param aspectObject is the instance of the aspect class
+	 * @param when describes what should be launched - listener method
+	 * that is executed before or after the target method
+	 */
+	void launch(JoinPoint joinPoint, Object aspectObject, WhenLaunch when) {
+		Class<?> targetClass = joinPoint.getTarget().getClass();
+		String methodName = joinPoint.getSignature().getName();
+		Map<String, Dispatch> byMethodName = dispatches.get(when)
+				.computeIfAbsent(targetClass,
+						(c) -> new ConcurrentHashMap<String, Dispatch>());
+		Dispatch dispatch = byMethodName.get(methodName);
+		if (dispatch == null) {
+			dispatch = createDispatch(when, targetClass, methodName);
+			byMethodName.put(methodName, dispatch);
+		}
+		if (dispatch == NO_DISPATCH)
+			return;
+		try {
+			dispatch.invoke(aspectObject, joinPoint);
+		} catch (Throwable t) {
+			// it is thrown the same way as it was thrown by
+			// the reflective invocation
+			throw new RuntimeException(new InvocationTargetException(t));
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.List;
+
+import com.github.arachnidium.core.eventlisteners.EOverflowPolicies;
+import com.github.arachnidium.core.eventlisteners.SynchronousListener;
+import com.github.arachnidium.core.settings.ListenerDelivery;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurable;
+import com.github.arachnidium.util.logging.Log;
+
+/**
+ * Delivers events of the one session to listeners which are found by SPI.
+ * If it is specified by {@link ListenerDelivery} events are put into
+ * the bounded queue and delivered one after another by the separated
+ * thread. So listeners receive events of the session in the same order.
+ * The thread is stopped when there is nothing to deliver for a while
+ * and it is started again by the next event. Settings are read when
+ * the bus is created and when the configuration is changed.
+ */
+class ListenerEventBus implements IConfigurable {
+	// the delivering thread is stopped after this period
+	// without events (milliseconds)
+	private final static long IDLE_TIME_OUT = 1000;
+
+	private final ArrayDeque<Runnable> queue = new ArrayDeque<Runnable>();
+	private Thread deliveringThread;
+	private boolean isDelivering;
+	private volatile Delivery delivery;
+
+	/**
+	 * Values of {@link ListenerDelivery} settings
+	 */
+	private static class Delivery {
+		private final boolean isAsync;
+		private final long queueSize;
+		private final EOverflowPolicies overflowPolicy;
+
+		private Delivery(ListenerDelivery settings) {
+			isAsync = settings.isAsync();
+			queueSize = settings.getQueueSize();
+			overflowPolicy = settings.getOverflowPolicy();
+		}
+	}
+
+	ListenerEventBus(Configuration configuration) {
+		resetAccordingTo(configuration);
+	}
+
+	/**
+	 * Reads {@link ListenerDelivery} settings
+	 *
+	 * @see com.github.arachnidium.util.configuration.interfaces.IConfigurable#resetAccordingTo(com.github.arachnidium.util.configuration.Configuration)
+	 */
+	@Override
+	public void resetAccordingTo(Configuration config) {
+		delivery = new Delivery(config.getSection(ListenerDelivery.class));
+	}
+
+	private static void invoke(Object listener, Method method, Object[] args) {
+		try {
+			method.invoke(listener, args);
+		} catch (IllegalAccessException | IllegalArgumentException
+				| InvocationTargetException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void invokeQuietly(Object listener, Method method,
+			Object[] args) {
+		try {
+			invoke(listener, method, args);
+		} catch (RuntimeException e) {
+			Log.warning("Listener " + listener.getClass().getName()
+					+ " has failed on " + method.getName() + ". "
+					+ e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Notifies listeners
+	 *
+	 * @param listeners are listeners which are found by SPI
+	 * @param method is the invoked listener method
+	 * @param args are arguments of the listener method
+	 */
+	void dispatch(List<?> listeners, Method method, Object[] args) {
+		if (listeners.isEmpty())
+			return;
+		Delivery delivery = this.delivery;
+		boolean isAsync = delivery.isAsync
+				&& Thread.currentThread() != getDeliveringThread();
+		for (Object listener : listeners) {
+			if (!isAsync
+					|| listener.getClass().isAnnotationPresent(
+							SynchronousListener.class)) {
+				invoke(listener, method, args);
+				continue;
+			}
+			post(() -> invokeQuietly(listener, method, args),
+					delivery.queueSize, delivery.overflowPolicy);
+		}
+	}
+
+	private synchronized Thread getDeliveringThread() {
+		return deliveringThread;
+	}
+
+	private synchronized void post(Runnable event, long queueSize,
+			EOverflowPolicies overflowPolicy) {
+		while (queue.size() >= queueSize) {
+			if (overflowPolicy == EOverflowPolicies.DROP_NEWEST) {
+				Log.debug("Too many listener events are not delivered yet. The new event is dropped");
+				return;
+			}
+			if (overflowPolicy == EOverflowPolicies.DROP_OLDEST) {
+				Log.debug("Too many listener events are not delivered yet. The oldest event is dropped");
+				queue.pollFirst();
+				continue;
+			}
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		queue.addLast(event);
+		if (deliveringThread == null) {
+			deliveringThread = new Thread(this::deliver,
+					"arachnidium-listener-delivery");
+			deliveringThread.setDaemon(true);
+			deliveringThread.start();
+		}
+		notifyAll();
+	}
+
+	private void deliver() {
+		while (true) {
+			Runnable event;
+			synchronized (this) {
+				isDelivering = false;
+				if (queue.isEmpty()) {
+					notifyAll();
+					try {
+						wait(IDLE_TIME_OUT);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				if (queue.isEmpty()) {
+					deliveringThread = null;
+					notifyAll();
+					return;
+				}
+				event = queue.pollFirst();
+				isDelivering = true;
+				notifyAll();
+			}
+			event.run();
+		}
+	}
+
+	/**
+	 * Waits until all posted events are delivered
+	 */
+	synchronized void flush() {
+		if (Thread.currentThread() == deliveringThread)
+			return;
+		while (!queue.isEmpty() || isDelivering) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
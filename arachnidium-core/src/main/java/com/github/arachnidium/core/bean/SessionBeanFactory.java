@@ -0,0 +1,198 @@
+package com.github.arachnidium.core.bean;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.openqa.selenium.WebDriver;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import com.github.arachnidium.core.fluenthandle.PageMetadataCache;
+import com.github.arachnidium.core.interfaces.IContext;
+import com.github.arachnidium.core.interfaces.IDestroyable;
+import com.github.arachnidium.core.interfaces.IExtendedWindow;
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.interfaces.IConfigurationWrapper;
+import com.github.arachnidium.util.reflect.executable.ExecutableUtil;
+
+/**
+ * Makes {@link WebDriver}, its components, windows and mobile contexts
+ * of the one session listenable. It does the same as an application
+ * context with auto proxying did but there is no context per session.
+ * Pointcuts of aspects are parsed once and they are shared by all sessions.
+ * Aspects are instantiated for each listenable object and they
+ * know objects of their session.
+ */
+public class SessionBeanFactory {
+	// aspect class -> parsed pointcut of the "around" advice
+	private final static Map<Class<?>, AspectJExpressionPointcut> pointcuts = new ConcurrentHashMap<Class<?>, AspectJExpressionPointcut>();
+
+	private final IConfigurationWrapper configurationWrapper;
+	private final IDestroyable destroyable;
+	private final IHandleStateObserver handleStateObserver;
+	private final PageMetadataCache pageMetadataCache;
+	private final ListenerEventBus eventBus;
+	private volatile WebDriver driver;
+
+	/**
+	 * Invokes the "around" advice of the given aspect
+	 */
+	private static class AspectInterceptor implements MethodInterceptor {
+		private final AbstractAspect aspect;
+
+		private AspectInterceptor(AbstractAspect aspect) {
+			this.aspect = aspect;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+			return aspect.doAround(new MethodInvocationProceedingJoinPoint(
+					(ProxyMethodInvocation) invocation));
+		}
+	}
+
+	/**
+	 * @param configurationWrapper something that wraps
+	 * {@link com.github.arachnidium.util.configuration.Configuration}.
+	 * Aspects need it
+	 * @param destroyable Something that implements {@link IDestroyable}
+	 * @param handleStateObserver Something that implements {@link IHandleStateObserver}.
+	 * {@link AspectWebDriverEventListener} notifies it about window/context events
+	 * @param pageMetadataCache Known titles and URLs of windows.
+	 * {@link AspectWebDriverEventListener} uses it to log the current URL
+	 */
+	public SessionBeanFactory(IConfigurationWrapper configurationWrapper,
+			IDestroyable destroyable, IHandleStateObserver handleStateObserver,
+			PageMetadataCache pageMetadataCache) {
+		this.configurationWrapper = configurationWrapper;
+		this.destroyable = destroyable;
+		this.handleStateObserver = handleStateObserver;
+		this.pageMetadataCache = pageMetadataCache;
+		this.eventBus = new ListenerEventBus(
+				configurationWrapper.getWrappedConfiguration());
+	}
+
+	/**
+	 * Settings of the listener delivery are read again
+	 *
+	 * @param config is the new {@link Configuration} of the session
+	 */
+	public void resetAccordingTo(Configuration config) {
+		eventBus.resetAccordingTo(config);
+	}
+
+	private static AspectJExpressionPointcut getPointcut(
+			Class<? extends AbstractAspect> aspectClass) {
+		return pointcuts.computeIfAbsent(aspectClass, (c) -> {
+			try {
+				Around around = c.getMethod("doAround",
+						ProceedingJoinPoint.class).getAnnotation(Around.class);
+				AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+				pointcut.setPointcutDeclarationScope(c);
+				pointcut.setExpression(around.value());
+				return pointcut;
+			} catch (NoSuchMethodException e) {
+				throw new RuntimeException(e);
+			}
+		});
+	}
+
+	private static void addAspect(ProxyFactory proxyFactory,
+			Class<? extends AbstractAspect> aspectClass,
+			Supplier<? extends AbstractAspect> aspect) {
+		AspectJExpressionPointcut pointcut = getPointcut(aspectClass);
+		if (!AopUtils.canApply(pointcut, proxyFactory.getTargetClass()))
+			return;
+		proxyFactory.addAdvisor(new DefaultPointcutAdvisor(pointcut,
+				new AspectInterceptor(aspect.get())));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T makeListenable(Object target) {
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setTarget(target);
+		proxyFactory.setProxyTargetClass(true);
+		addAspect(proxyFactory, AspectWebDriverEventListener.class,
+				() -> new AspectWebDriverEventListener(driver,
+						configurationWrapper, destroyable, handleStateObserver,
+						pageMetadataCache, this, eventBus));
+		addAspect(proxyFactory, AspectWindowListener.class,
+				() -> new AspectWindowListener(configurationWrapper, eventBus));
+		addAspect(proxyFactory, AspectContextListener.class,
+				() -> new AspectContextListener(configurationWrapper, eventBus));
+		if (proxyFactory.getAdvisors().length == 0)
+			return (T) target;
+		return (T) proxyFactory.getProxy(target.getClass().getClassLoader());
+	}
+
+	/**
+	 * Creates {@link WebDriver} instance and makes it listenable.
+	 *
+	 * @param required Class of {@link WebDriver} implementor
+	 * @param paramValues Are constructor parameter values
+	 *
+	 * @return A listenable {@link WebDriver} instance
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends WebDriver> T getWebdriver(Class<T> required,
+			Object[] paramValues) {
+		try {
+			Constructor<?> c = ExecutableUtil.getRelevantConstructor(required, paramValues);
+
+			if (c == null){
+				throw new NoSuchMethodException(required.getName() + " has no constructor that matches " +
+						"given parameters " + Arrays.asList(paramValues).toString());
+			}
+			driver = (WebDriver) c.newInstance(paramValues);
+			return makeListenable(driver);
+		} catch (NoSuchMethodException | SecurityException
+				| InstantiationException | IllegalAccessException
+				| IllegalArgumentException | InvocationTargetException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Makes an instance of {@link IExtendedWindow} listenable
+	 * @param window An original instance of {@link IExtendedWindow}
+	 * @return The listenable instance of {@link IExtendedWindow}
+	 */
+	public <T extends IExtendedWindow> T getWindow(IExtendedWindow window) {
+		return makeListenable(window);
+	}
+
+	/**
+	 * Makes an instance of {@link IContext} listenable
+	 * @param context An original instance of {@link IContext}
+	 * @return The listenable instance of {@link IContext}
+	 */
+	public <T extends IContext> T getContext(IContext context) {
+		return makeListenable(context);
+	}
+
+	/**
+	 * It returns listenable {@link WebDriver} components
+	 *
+	 * @see AspectWebDriverEventListener
+	 *
+	 * @param component It is an instance of {@link WebDriver} component
+	 * ({@link org.openqa.selenium.WebElement}, {@link org.openqa.selenium.Alert} etc.)
+	 * @return The listenable component
+	 */
+	public Object getComponent(Object component) {
+		return makeListenable(component);
+	}
+}
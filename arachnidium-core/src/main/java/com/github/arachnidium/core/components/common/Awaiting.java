@@ -1,25 +1,101 @@
 package com.github.arachnidium.core.components.common;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.SystemClock;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.github.arachnidium.core.polling.FixedPolling;
+import com.github.arachnidium.core.polling.PollingStrategy;
+
 /**
  * Just a simple tool to 
- * perform waiting for something by {@link ExpectedCondition}
+ * perform waiting for something by {@link ExpectedCondition}.
+ * Each type of waitings uses its own copy of the configured 
+ * {@link PollingStrategy}. The copy is kept while the configured 
+ * strategy is not changed. So the adaptive strategy learns how long 
+ * waitings of the same type usually take
  */
 public class Awaiting {
     private final WebDriver driver;
+    private final Supplier<PollingStrategy> pollingStrategy;
+	// copies of the configured strategy by types of waitings
+	private final Map<Class<?>, PollingStrategy> learnedStrategies = new HashMap<Class<?>, PollingStrategy>();
+	private PollingStrategy configuredStrategy;
     
 	public Awaiting(WebDriver driver) {
+		this(driver, () -> null);
+	}
+
+	/**
+	 * @param driver is the instance of {@link WebDriver}
+	 * @param pollingStrategy returns the actual configured {@link PollingStrategy}. 
+	 * It is copied for each type of waitings. If it returns <code>null</code>
+	 * then the default fixed interval is used
+	 */
+	public Awaiting(WebDriver driver, Supplier<PollingStrategy> pollingStrategy) {
 		this.driver = driver;
+		this.pollingStrategy = pollingStrategy;
+	}
+
+	/**
+	 * @param waitingType is the type of waitings. Usually it is the class
+	 * of the awaited condition
+	 * @return the copy of the configured {@link PollingStrategy} which is
+	 * used by waitings of the given type. It is the same object while the
+	 * configured strategy is not changed. It is <code>null</code> if there
+	 * is no configured strategy
+	 */
+	public PollingStrategy getPollingStrategy(Class<?> waitingType) {
+		PollingStrategy configured = pollingStrategy.get();
+		if (configured == null)
+			return null;
+		synchronized (learnedStrategies) {
+			if (configured != configuredStrategy) {
+				learnedStrategies.clear();
+				configuredStrategy = configured;
+			}
+			return learnedStrategies.computeIfAbsent(waitingType,
+					type -> configured.copy());
+		}
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T> T awaitCondition(long secTimeOut, ExpectedCondition<?> condition)
 			throws TimeoutException {
-		return (T) new WebDriverWait(driver, secTimeOut).until(condition);
+		PollingStrategy strategy = getPollingStrategy(condition.getClass());
+		if (strategy == null)
+			return (T) new WebDriverWait(driver, secTimeOut).until(condition);
+		return (T) strategy.until(new WebDriverWait(driver, new SystemClock(),
+				strategy.getSleeper(), secTimeOut,
+				WebDriverWait.DEFAULT_SLEEP_TIMEOUT), condition);
+	}
+
+	/**
+	 * Performs waiting without blocking of the current thread.
+	 * The condition is evaluated by {@link WaitingScheduler}.
+	 * The {@link WebDriver} session should not be used by other 
+	 * threads until the returned future is completed or cancelled
+	 * 
+	 * @param secTimeOut is the time to wait for (seconds)
+	 * @param condition is the {@link ExpectedCondition} to wait for
+	 * @return {@link CompletableFuture} which is completed by the 
+	 * value returned by the condition or by {@link TimeoutException}
+	 */
+	public <T> CompletableFuture<T> awaitConditionAsync(long secTimeOut,
+			ExpectedCondition<T> condition) {
+		PollingStrategy strategy = getPollingStrategy(condition.getClass());
+		if (strategy == null)
+			strategy = new FixedPolling(WebDriverWait.DEFAULT_SLEEP_TIMEOUT);
+		return strategy.untilAsync(driver, condition, secTimeOut,
+				TimeUnit.SECONDS, WaitingScheduler.getScheduler());
 	}
 
 	@SuppressWarnings("unchecked")
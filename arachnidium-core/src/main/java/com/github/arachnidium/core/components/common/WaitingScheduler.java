@@ -0,0 +1,40 @@
+package com.github.arachnidium.core.components.common;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps threads which perform asynchronous waiting.
+ * These threads are daemons so they don't prevent the JVM 
+ * from the shutting down.
+ */
+public final class WaitingScheduler {
+
+	private final static ScheduledExecutorService scheduler = Executors
+			.newScheduledThreadPool(Runtime.getRuntime()
+					.availableProcessors(), getThreadFactory("scheduled"));
+
+	private WaitingScheduler() {
+		super();
+	}
+
+	private static ThreadFactory getThreadFactory(String kind) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "arachnidium-" + kind
+					+ "-waiting-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * @return {@link ScheduledExecutorService} which performs 
+	 * short non-blocking attempts
+	 */
+	public static ScheduledExecutorService getScheduler() {
+		return scheduler;
+	}
+}
@@ -0,0 +1,25 @@
+package com.github.arachnidium.core.eventlisteners;
+
+import com.github.arachnidium.core.settings.ListenerDelivery;
+
+/**
+ * What to do when the queue of events which are delivered
+ * to listeners asynchronously is full
+ *
+ * @see ListenerDelivery
+ */
+public enum EOverflowPolicies {
+	/**
+	 * The thread which invokes {@link org.openqa.selenium.WebDriver}
+	 * waits until there is free space in the queue
+	 */
+	BLOCK,
+	/**
+	 * The new event is not delivered
+	 */
+	DROP_NEWEST,
+	/**
+	 * The oldest event which is not delivered yet is removed
+	 */
+	DROP_OLDEST
+}
@@ -0,0 +1,23 @@
+package com.github.arachnidium.core.eventlisteners;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.github.arachnidium.core.settings.ListenerDelivery;
+
+/**
+ * Marks listeners which are always notified in the thread that
+ * invokes {@link org.openqa.selenium.WebDriver} even if
+ * the asynchronous delivery is turned on. For example it is necessary
+ * if the listener uses the driver or it can interrupt the action.
+ *
+ * @see ListenerDelivery
+ */
+@Documented
+@Target(value = ElementType.TYPE)
+@Retention(value = RetentionPolicy.RUNTIME)
+public @interface SynchronousListener {
+}
@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 
 /**
@@ -17,10 +20,100 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
  */
 public class FluentPageWaiting implements IFluentHandleWaiting {
 
+	private final static String COMPLETE_STATE = "complete";
+	private final PageMetadataCache pageMetadataCache;
+	// it is false when the driver can't execute the probe script
+	private boolean isProbeSupported = true;
+
+	public FluentPageWaiting() {
+		this(null);
+	}
+
+	/**
+	 * @param pageMetadataCache Known titles and URLs of windows.
+	 * They are not requested again while they are valid
+	 */
+	public FluentPageWaiting(PageMetadataCache pageMetadataCache) {
+		this.pageMetadataCache = pageMetadataCache;
+	}
+
+	/**
+	 * Returns title and URL of the window. Known values are taken from
+	 * {@link PageMetadataCache}. Unknown values are received by the single
+	 * {@link PageMetadataCache#PAGE_PROBE_SCRIPT} execution. If the driver
+	 * can't execute it then title and URL are requested separately.
+	 * 
+	 * @return String array. The first element is title, the second one is URL
+	 */
+	private String[] getTitleAndUrl(final WebDriver from, String handle,
+			boolean isTitleRequired, boolean isUrlRequired) {
+		String title = null;
+		String url = null;
+		if (pageMetadataCache != null) {
+			title = pageMetadataCache.getTitle(handle);
+			url = pageMetadataCache.getCurrentUrl(handle);
+		}
+		if ((!isTitleRequired || title != null)
+				&& (!isUrlRequired || url != null))
+			return new String[] { title, url };
+
+		from.switchTo().window(handle);
+		List<?> probe = probe(from);
+		if (probe != null) {
+			title = String.valueOf(probe.get(0));
+			url = String.valueOf(probe.get(1));
+			// values of the page which is still loading can be changed
+			// without any event
+			if (pageMetadataCache != null
+					&& COMPLETE_STATE.equals(probe.get(2))) {
+				pageMetadataCache.setTitle(handle, title);
+				pageMetadataCache.setCurrentUrl(handle, url);
+			}
+			return new String[] { title, url };
+		}
+
+		if (isTitleRequired && title == null) {
+			title = from.getTitle();
+			if (pageMetadataCache != null)
+				pageMetadataCache.setTitle(handle, title);
+		}
+		if (isUrlRequired && url == null) {
+			url = from.getCurrentUrl();
+			if (pageMetadataCache != null)
+				pageMetadataCache.setCurrentUrl(handle, url);
+		}
+		return new String[] { title, url };
+	}
+
+	private List<?> probe(final WebDriver from) {
+		if (!isProbeSupported
+				|| !JavascriptExecutor.class.isAssignableFrom(from.getClass())) {
+			return null;
+		}
+		try {
+			Object result = ((JavascriptExecutor) from)
+					.executeScript(PageMetadataCache.PAGE_PROBE_SCRIPT);
+			if (result instanceof List<?> && ((List<?>) result).size() == 3)
+				return (List<?>) result;
+		} catch (TimeoutException | NoSuchWindowException e) {
+			throw e;
+		} catch (UnsupportedCommandException | UnsupportedOperationException e) {
+			// javascript is not supported or disabled (e.g. native context)
+			isProbeSupported = false;
+			return null;
+		} catch (WebDriverException e) {
+			// it may be transient (e.g. an alert is present or the page
+			// is being reloaded). The probe is tried again next time
+			return null;
+		}
+		// the driver can't return the result of the script
+		isProbeSupported = false;
+		return null;
+	}
+
 	private String getWindowHandleByIndex(final WebDriver from, int windowIndex) {
 		Set<String> handles = from.getWindowHandles();
 		if (handles.size() - 1 >= windowIndex) {
-			from.switchTo().window(handles.toArray()[windowIndex].toString());
 			return new ArrayList<String>(handles).get(windowIndex);
 		} else
 			return null;
@@ -28,8 +121,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 
 	private static String getHandleWhichMatchesToTitles(String handle,
 			String titleRegExp, String winTitle) {
-		Pattern p = Pattern.compile(titleRegExp);
-		Matcher m = p.matcher(winTitle);
+		Matcher m = PatternCache.getPattern(titleRegExp).matcher(winTitle);
 		if (m.find()) {
 			return handle;
 		} else
@@ -39,8 +131,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 	private static String getHandleWhichMatchesToURLs(String handle,
 			List<String> urlsRegExps, String currentUrl) {
 		for (String url : urlsRegExps) {
-			Pattern p = Pattern.compile(url);
-			Matcher m = p.matcher(currentUrl);
+			Matcher m = PatternCache.getPattern(url).matcher(currentUrl);
 
 			if (m.find()) {
 				return handle;
@@ -56,8 +147,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 		for (String handle : handles) {
 			String winTitle = null;
 			try {
-				from.switchTo().window(handle);
-				winTitle = from.getTitle();
+				winTitle = getTitleAndUrl(from, handle, true, false)[0];
 			} catch (TimeoutException e) {
 				return null;
 			}
@@ -78,8 +168,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 		for (String handle : handles) {
 			String currentUrl = null;
 			try {
-				from.switchTo().window(handle);
-				currentUrl = from.getCurrentUrl();
+				currentUrl = getTitleAndUrl(from, handle, false, true)[1];
 			} catch (TimeoutException e) {
 				return null;
 			}
@@ -104,8 +193,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 
 		String currentUrl = null;
 		try {
-			from.switchTo().window(resultHandle);
-			currentUrl = from.getCurrentUrl();
+			currentUrl = getTitleAndUrl(from, resultHandle, false, true)[1];
 		} catch (TimeoutException e) {
 			return null;
 		}
@@ -123,8 +211,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 
 		String winTitle = null;
 		try {
-			from.switchTo().window(resultHandle);
-			winTitle = from.getTitle();
+			winTitle = getTitleAndUrl(from, resultHandle, true, false)[0];
 		} catch (TimeoutException e) {
 			return null;
 		}
@@ -143,9 +230,10 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 		String winTitle = null;
 		String currentUrl = null;
 		try {
-			from.switchTo().window(resultHandle);
-			winTitle = from.getTitle();
-			currentUrl = from.getCurrentUrl();
+			String[] titleAndUrl = getTitleAndUrl(from, resultHandle, true,
+					true);
+			winTitle = titleAndUrl[0];
+			currentUrl = titleAndUrl[1];
 		} catch (TimeoutException e) {
 			return null;
 		}
@@ -168,8 +256,7 @@ public class FluentPageWaiting implements IFluentHandleWaiting {
 
 		String currentUrl = null;
 		try {
-			from.switchTo().window(resultHandle);
-			currentUrl = from.getCurrentUrl();
+			currentUrl = getTitleAndUrl(from, resultHandle, false, true)[1];
 		} catch (TimeoutException e) {
 			return null;
 		}
@@ -6,7 +6,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.openqa.selenium.ContextAware;
 import org.openqa.selenium.WebDriver;
@@ -16,8 +15,8 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	
 	private static String getContextWhichMatchesToContextExpression(
 			String contextRegExp, String currentContext) {
-		Pattern p = Pattern.compile(contextRegExp);
-		Matcher m = p.matcher(currentContext);
+		Matcher m = PatternCache.getPattern(contextRegExp).matcher(
+				currentContext);
 		if (m.find()) {
 			return currentContext;
 		} else
@@ -27,8 +26,8 @@ public class FluentScreenWaiting implements IFluentHandleWaiting {
 	private static String getContextWhichMatchesToActivities(String context,
 			List<String> activitiesRegExps, String currentActivity) {
 		for (String activity : activitiesRegExps) {
-			Pattern p = Pattern.compile(activity);
-			Matcher m = p.matcher(currentActivity);
+			Matcher m = PatternCache.getPattern(activity).matcher(
+					currentActivity);
 	
 			if (m.find()) {
 				return context;
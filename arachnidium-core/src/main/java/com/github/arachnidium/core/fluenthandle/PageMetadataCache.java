@@ -0,0 +1,217 @@
+package com.github.arachnidium.core.fluenthandle;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.WebDriver;
+
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
+
+/**
+ * Keeps titles and URLs of browser windows/pages which were
+ * received from the server. Known values are valid until something
+ * may change pages (navigation, click, submit, script execution etc.).
+ * Each such event starts a new navigation epoch. Origins of pages which
+ * were navigated to or whose URLs were received are remembered until
+ * they are forgotten explicitly.
+ */
+public class PageMetadataCache implements IHandleStateObserver {
+
+	/**
+	 * This script returns title, URL and ready state of the page.
+	 * It changes nothing.
+	 */
+	public final static String PAGE_PROBE_SCRIPT = "return [document.title, "
+			+ "location.href, document.readyState];";
+
+	// values are requested again after this period (milliseconds)
+	// even if nothing was detected
+	private final static long METADATA_LIFETIME = 1000;
+
+	private static class Metadata {
+		private final String value;
+		private final long epoch;
+		private final long time;
+
+		private Metadata(String value, long epoch) {
+			this.value = value;
+			this.epoch = epoch;
+			this.time = System.currentTimeMillis();
+		}
+	}
+
+	private final Map<String, Metadata> titles = new HashMap<String, Metadata>();
+	private final Map<String, Metadata> urls = new HashMap<String, Metadata>();
+	private final Set<String> visitedOrigins = new HashSet<String>();
+	private long epoch;
+	private String focusedWindow;
+
+	/**
+	 * @param url is an URL of the page
+	 * @return scheme, host and port of the given URL or <code>null</code>
+	 * if the URL is not an HTTP(S) one (about:blank, data:, file: etc.)
+	 */
+	public static String getOrigin(String url) {
+		if (url == null)
+			return null;
+		try {
+			URI uri = new URI(url);
+			String scheme = uri.getScheme();
+			if (uri.getHost() == null
+					|| !("http".equalsIgnoreCase(scheme) || "https"
+							.equalsIgnoreCase(scheme)))
+				return null;
+			String origin = scheme.toLowerCase() + "://"
+					+ uri.getHost().toLowerCase();
+			if (uri.getPort() >= 0)
+				origin = origin + ":" + uri.getPort();
+			return origin;
+		} catch (URISyntaxException e) {
+			return null;
+		}
+	}
+
+	private String getValid(Map<String, Metadata> metadataMap, String handle) {
+		Metadata metadata = metadataMap.get(handle);
+		if (metadata == null)
+			return null;
+		if (metadata.epoch != epoch
+				|| System.currentTimeMillis() - metadata.time > METADATA_LIFETIME) {
+			metadataMap.remove(handle);
+			return null;
+		}
+		return metadata.value;
+	}
+
+	/**
+	 * @param handle String window handle
+	 * @return Known title of the window or <code>null</code> if it
+	 * should be requested
+	 */
+	public synchronized String getTitle(String handle) {
+		return getValid(titles, handle);
+	}
+
+	/**
+	 * @param handle String window handle
+	 * @return Known URL of the window or <code>null</code> if it
+	 * should be requested
+	 */
+	public synchronized String getCurrentUrl(String handle) {
+		return getValid(urls, handle);
+	}
+
+	/**
+	 * Remembers the title of the window
+	 *
+	 * @param handle String window handle
+	 * @param title received title
+	 */
+	public synchronized void setTitle(String handle, String title) {
+		if (handle != null && title != null)
+			titles.put(handle, new Metadata(title, epoch));
+	}
+
+	/**
+	 * Remembers URL of the window
+	 *
+	 * @param handle String window handle
+	 * @param url received URL
+	 */
+	public synchronized void setCurrentUrl(String handle, String url) {
+		addVisitedUrl(url);
+		if (handle != null && url != null)
+			urls.put(handle, new Metadata(url, epoch));
+	}
+
+	/**
+	 * Remembers the origin of the page which was navigated to
+	 *
+	 * @param url is an URL of the page
+	 */
+	public synchronized void addVisitedUrl(String url) {
+		String origin = getOrigin(url);
+		if (origin != null)
+			visitedOrigins.add(origin);
+	}
+
+	/**
+	 * @return Origins (scheme, host and port) of pages which were
+	 * visited since they were forgotten last time
+	 */
+	public synchronized Set<String> getVisitedOrigins() {
+		return new HashSet<String>(visitedOrigins);
+	}
+
+	/**
+	 * Forgets origins of visited pages
+	 */
+	public synchronized void forgetVisitedOrigins() {
+		visitedOrigins.clear();
+	}
+
+	/**
+	 * @param driver is the instance of {@link WebDriver}
+	 * @return URL of the window which is focused at the moment.
+	 * It is requested only if it is not known
+	 */
+	public String getCurrentUrl(WebDriver driver) {
+		String handle = getFocusedWindow();
+		String url = null;
+		if (handle != null)
+			url = getCurrentUrl(handle);
+		if (url != null)
+			return url;
+		url = driver.getCurrentUrl();
+		setCurrentUrl(handle, url);
+		return url;
+	}
+
+	/**
+	 * @return The current navigation epoch
+	 */
+	public synchronized long getEpoch() {
+		return epoch;
+	}
+
+	private void startNewEpoch() {
+		epoch++;
+		titles.clear();
+		urls.clear();
+	}
+
+	synchronized String getFocusedWindow() {
+		return focusedWindow;
+	}
+
+	@Override
+	public synchronized void whenWindowIsSwitchedOn(String handle) {
+		focusedWindow = handle;
+	}
+
+	@Override
+	public synchronized void whenContextIsSwitchedOn(String context) {
+		focusedWindow = null;
+	}
+
+	@Override
+	public synchronized void whenPageIsChanged() {
+		startNewEpoch();
+	}
+
+	@Override
+	public synchronized void whenWindowIsClosed() {
+		focusedWindow = null;
+		startNewEpoch();
+	}
+
+	@Override
+	public synchronized void whenHandleIsLost() {
+		focusedWindow = null;
+		startNewEpoch();
+	}
+}
@@ -0,0 +1,70 @@
+package com.github.arachnidium.core.fluenthandle;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Keeps compiled regular expressions which are used to
+ * match titles, URLs, context names, activities etc.
+ * Patterns are read without locking. The number of kept patterns
+ * is limited. When the limit is reached new patterns are compiled
+ * each time and they are not kept.
+ */
+public final class PatternCache {
+
+	private final static int MAX_SIZE = 256;
+
+	private final static ConcurrentHashMap<String, Pattern> patterns = new ConcurrentHashMap<String, Pattern>();
+
+	private PatternCache() {
+		super();
+	}
+
+	/**
+	 * @param regExp is a regular expression
+	 * @return Compiled {@link Pattern}. It is compiled only
+	 * if it is not kept yet
+	 * @throws PatternSyntaxException if the expression is invalid
+	 */
+	public static Pattern getPattern(String regExp) {
+		Pattern pattern = patterns.get(regExp);
+		if (pattern != null)
+			return pattern;
+		pattern = Pattern.compile(regExp);
+		// the size is approximate. It may be exceeded by a few
+		// patterns which are put concurrently
+		if (patterns.size() < MAX_SIZE) {
+			Pattern kept = patterns.putIfAbsent(regExp, pattern);
+			if (kept != null)
+				return kept;
+		}
+		return pattern;
+	}
+
+	/**
+	 * Compiles given regular expressions and keeps them
+	 *
+	 * @param regExps are regular expressions.
+	 * <code>null</code> values are ignored
+	 * @throws PatternSyntaxException if an expression is invalid
+	 */
+	public static void compile(List<String> regExps) {
+		if (regExps == null)
+			return;
+		regExps.forEach((regExp) -> compile(regExp));
+	}
+
+	/**
+	 * Compiles given regular expression and keeps it
+	 *
+	 * @param regExp is a regular expression.
+	 * <code>null</code> value is ignored
+	 * @throws PatternSyntaxException if the expression is invalid
+	 */
+	public static void compile(String regExp) {
+		if (regExp != null)
+			getPattern(regExp);
+	}
+}
@@ -15,6 +15,7 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.WrapsElement;
 
+import com.github.arachnidium.core.settings.Highlighting;
 import com.github.arachnidium.core.settings.ScreenShots;
 
 /**
@@ -23,23 +24,39 @@ import com.github.arachnidium.core.settings.ScreenShots;
 public class WebElementHighLighter implements IConfigurable,
 		IWebElementHighlighter {
 
+	// applies the border and returns the original style
+	private final static String HIGHLIGHT_SCRIPT = "var e = arguments[0]; "
+			+ "var style = e.getAttribute('style'); "
+			+ "e.style.border = arguments[1]; return style;";
+	// restores the original style
+	private final static String RESTORE_SCRIPT = "var e = arguments[0]; "
+			+ "if (arguments[1] === null) e.removeAttribute('style'); "
+			+ "else e.setAttribute('style', arguments[1]);";
+
 	// is this doing screenshots
 	private boolean toDoScreenShots;
 	private final boolean isDoingScreenShotsByDefault = true;
+	// how long the highlighted element is shown (milliseconds)
+	private long delay;
 
-	private void execDecorativeScript(JavascriptExecutor scriptExecutor,
-			WebElement element, String script) throws InterruptedException {
+	private Object execDecorativeScript(JavascriptExecutor scriptExecutor,
+			WebElement element, String script, Object argument) {
 		try {
-			scriptExecutor.executeScript(script, element);
+			return scriptExecutor.executeScript(script, element, argument);
 		} catch (ClassCastException e) {
-			scriptExecutor.executeScript(script,
-					((WrapsElement) element).getWrappedElement());
+			return scriptExecutor.executeScript(script,
+					((WrapsElement) element).getWrappedElement(), argument);
 		}
-		Thread.sleep(100);
 	}
 
-	private String getOriginalStyle(WebElement elementToBeHiglighted) {
-		return elementToBeHiglighted.getAttribute("style");
+	private void pause() {
+		if (delay <= 0)
+			return;
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
 	/**
@@ -49,7 +66,7 @@ public class WebElementHighLighter implements IConfigurable,
 	 *      org.openqa.selenium.WebElement, java.awt.Color, java.lang.String)   
 	 */
 	@Override
-	public synchronized void highlightAsFine(WebDriver driver,
+	public void highlightAsFine(WebDriver driver,
 			WebElement webElement, Color highlight, String comment) {
 		highlightelement(driver, webElement, highlight, eAvailableLevels.FINE,
 				comment);
@@ -64,7 +81,7 @@ public class WebElementHighLighter implements IConfigurable,
 	 *   
 	 */
 	@Override
-	public synchronized void highlightAsFine(WebDriver driver,
+	public void highlightAsFine(WebDriver driver,
 			WebElement webElement, String comment) {
 		highlightelement(driver, webElement,
 				eLogColors.DEBUGCOLOR.getStateColor(), eAvailableLevels.FINE,
@@ -77,7 +94,7 @@ public class WebElementHighLighter implements IConfigurable,
 	 *      org.openqa.selenium.WebElement, java.awt.Color, java.lang.String)
 	 */
 	@Override
-	public synchronized void highlightAsInfo(WebDriver driver,
+	public void highlightAsInfo(WebDriver driver,
 			WebElement webElement, Color highlight, String comment) {
 		highlightelement(driver, webElement, highlight, eAvailableLevels.INFO,
 				comment);
@@ -91,7 +108,7 @@ public class WebElementHighLighter implements IConfigurable,
 	 *      org.openqa.selenium.WebElement, java.lang.String) 
 	 */
 	@Override
-	public synchronized void highlightAsInfo(WebDriver driver,
+	public void highlightAsInfo(WebDriver driver,
 			WebElement webElement, String comment) {
 		highlightelement(driver, webElement,
 				eLogColors.CORRECTSTATECOLOR.getStateColor(),
@@ -105,7 +122,7 @@ public class WebElementHighLighter implements IConfigurable,
 	 *      org.openqa.selenium.WebElement, java.awt.Color, java.lang.String)
 	 */
 	@Override
-	public synchronized void highlightAsSevere(WebDriver driver,
+	public void highlightAsSevere(WebDriver driver,
 			WebElement webElement, Color highlight, String comment) {
 		highlightelement(driver, webElement, highlight,
 				eAvailableLevels.SEVERE, comment);
@@ -119,7 +136,7 @@ public class WebElementHighLighter implements IConfigurable,
 	 *      org.openqa.selenium.WebElement, java.lang.String)   
 	 */
 	@Override
-	public synchronized void highlightAsSevere(WebDriver driver,
+	public void highlightAsSevere(WebDriver driver,
 			WebElement webElement, String comment) {
 		highlightelement(driver, webElement,
 				eLogColors.SEVERESTATECOLOR.getStateColor(),
@@ -133,7 +150,7 @@ public class WebElementHighLighter implements IConfigurable,
 	 *      org.openqa.selenium.WebElement, java.awt.Color, java.lang.String)
 	 */
 	@Override
-	public synchronized void highlightAsWarning(WebDriver driver,
+	public void highlightAsWarning(WebDriver driver,
 			WebElement webElement, Color highlight, String comment) {
 		highlightelement(driver, webElement, highlight, eAvailableLevels.WARN,
 				comment);
@@ -147,26 +164,52 @@ public class WebElementHighLighter implements IConfigurable,
 	 *      org.openqa.selenium.WebElement, java.lang.String)  
 	 */
 	@Override
-	public synchronized void highlightAsWarning(WebDriver driver,
+	public void highlightAsWarning(WebDriver driver,
 			WebElement webElement, String comment) {
 		highlightelement(driver, webElement,
 				eLogColors.WARNSTATECOLOR.getStateColor(),
 				eAvailableLevels.WARN, comment);
 	}
 
+	// if the message is filtered out then nothing is done
+	// and the highlighter is not locked
 	private void highlightelement(WebDriver driver, WebElement webElement,
 			Color color, eAvailableLevels LogLevel, String comment) {
+		if (!Log.isLoggable(LogLevel))
+			return;
+		highlight(driver, webElement, color, LogLevel, comment);
+	}
+
+	/**
+	 * The element is highlighted by the one script and its style is
+	 * restored by another one. The screenshot is taken between them.
+	 * If there is no screenshot and no delay then the element is not
+	 * highlighted because nobody would see it.
+	 */
+	private synchronized void highlight(WebDriver driver,
+			WebElement webElement, Color color, eAvailableLevels LogLevel,
+			String comment) {
+		if (!toDoScreenShots && delay <= 0) {
+			Log.log(LogLevel, comment);
+			return;
+		}
 		try {
-			String originalStyle = getOriginalStyle(webElement);
-			setNewColor((JavascriptExecutor) driver, webElement,
-					"4px solid rgb(" + Integer.toString(color.getRed()) + ","
+			Object originalStyle = setNewColor((JavascriptExecutor) driver,
+					webElement, "4px solid rgb("
+							+ Integer.toString(color.getRed()) + ","
 							+ Integer.toString(color.getGreen()) + ","
 							+ Integer.toString(color.getBlue()) + ")");
-			if (toDoScreenShots)
-				Photographer.takeAPictureForLog(driver, LogLevel, comment);
-			else
-				Log.log(LogLevel, comment);
-			setStyle((JavascriptExecutor) driver, webElement, originalStyle);
+			pause();
+			try {
+				if (toDoScreenShots)
+					Photographer.takeAPictureForLog(driver, LogLevel, comment);
+				else
+					Log.log(LogLevel, comment);
+			} finally {
+				setStyle((JavascriptExecutor) driver, webElement,
+						originalStyle);
+				pause();
+			}
 		} // There is a problem with mobile applications. Not all locators are
 			// supported
 		catch (WebDriverException e) {
@@ -185,23 +228,26 @@ public class WebElementHighLighter implements IConfigurable,
 			this.toDoScreenShots = isDoingScreenShotsByDefault;
 		else
 			this.toDoScreenShots = toDoScreenShots;
+		delay = config.getSection(Highlighting.class).getDelay();
 	}
 
-	private void setNewColor(JavascriptExecutor scriptExecutor,
+	// returns the original style
+	private Object setNewColor(JavascriptExecutor scriptExecutor,
 			WebElement elementToBeHiglighted, String colorExpression) {
 		try {
-			execDecorativeScript(scriptExecutor, elementToBeHiglighted,
-					"arguments[0].style.border = '" + colorExpression + "'");
-		} catch (InterruptedException | StaleElementReferenceException e) {
+			return execDecorativeScript(scriptExecutor, elementToBeHiglighted,
+					HIGHLIGHT_SCRIPT, colorExpression);
+		} catch (StaleElementReferenceException e) {
+			return null;
 		}
 	}
 
 	private void setStyle(JavascriptExecutor scriptExecutor,
-			WebElement elementToBeHiglighted, String style) {
+			WebElement elementToBeHiglighted, Object style) {
 		try {
 			execDecorativeScript(scriptExecutor, elementToBeHiglighted,
-					"arguments[0].setAttribute('style', '" + style + "');");
-		} catch (InterruptedException | StaleElementReferenceException e) {
+					RESTORE_SCRIPT, style);
+		} catch (StaleElementReferenceException e) {
 		}
 	}
 
@@ -0,0 +1,86 @@
+package com.github.arachnidium.core.interfaces;
+
+import org.openqa.selenium.ContextAware;
+import org.openqa.selenium.WebDriver.TargetLocator;
+
+/**
+ * Implementors of this interface are notified about
+ * changes of window handles/mobile contexts which are
+ * detected by listeners. It allows to keep known
+ * handle state without additional WebDriver requests.
+ */
+public interface IHandleStateObserver {
+
+	/**
+	 * It will be invoked when window is switched on
+	 * by {@link TargetLocator#window(String)}
+	 *
+	 * @param handle String window handle
+	 */
+	default void whenWindowIsSwitchedOn(String handle) {
+		// does nothing
+	}
+
+	/**
+	 * It will be invoked when context is switched on
+	 * by {@link ContextAware#context(String)}
+	 *
+	 * @param context Context name
+	 */
+	default void whenContextIsSwitchedOn(String context) {
+		// does nothing
+	}
+
+	/**
+	 * It will be invoked when frame is switched on
+	 * by {@link TargetLocator#frame(int)},
+	 * {@link TargetLocator#frame(String)} or
+	 * {@link TargetLocator#frame(org.openqa.selenium.WebElement)}
+	 *
+	 * @param frameIdentifier Index, name/id or element of the frame
+	 */
+	default void whenFrameIsSwitchedOn(Object frameIdentifier) {
+		// does nothing
+	}
+
+	/**
+	 * It will be invoked when parent frame is switched on
+	 * by {@link TargetLocator#parentFrame()}
+	 */
+	default void whenParentFrameIsSwitchedOn() {
+		// does nothing
+	}
+
+	/**
+	 * It will be invoked when default content is switched on
+	 * by {@link TargetLocator#defaultContent()}
+	 */
+	default void whenDefaultContentIsSwitchedOn() {
+		// does nothing
+	}
+
+	/**
+	 * It will be invoked when something may change the
+	 * page content or location e.g. navigation, click,
+	 * submit or script execution
+	 */
+	default void whenPageIsChanged() {
+		// does nothing
+	}
+
+	/**
+	 * It will be invoked when the current window
+	 * is closed
+	 */
+	default void whenWindowIsClosed() {
+		// does nothing
+	}
+
+	/**
+	 * It will be invoked when it is detected that
+	 * some window/context doesn't exist anymore
+	 */
+	default void whenHandleIsLost() {
+		// does nothing
+	}
+}
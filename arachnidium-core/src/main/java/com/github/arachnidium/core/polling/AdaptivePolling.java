@@ -0,0 +1,56 @@
+package com.github.arachnidium.core.polling;
+
+/**
+ * Chooses the interval of polling according to durations of 
+ * previous successful waitings. The interval is the part of the 
+ * average duration which is limited by minimum and maximum values.
+ */
+public class AdaptivePolling extends PollingStrategy {
+	// the weight of the last duration in the average value
+	private final static double DURATION_WEIGHT = 0.3;
+	// the average duration is divided by it
+	private final static int ATTEMPTS_PER_WAITING = 5;
+
+	private final long interval;
+	private final long maxInterval;
+	private double averageDuration = -1;
+
+	/**
+	 * @param interval is the minimum interval of polling (milliseconds).
+	 * It is used when nothing was awaited yet
+	 * @param maxInterval is the maximum interval of polling (milliseconds)
+	 */
+	public AdaptivePolling(long interval, long maxInterval) {
+		this.interval = interval;
+		this.maxInterval = Math.max(interval, maxInterval);
+	}
+
+	@Override
+	protected synchronized long getDelay(int attempt) {
+		if (averageDuration < 0)
+			return interval;
+		long delay = (long) (averageDuration / ATTEMPTS_PER_WAITING);
+		return Math.min(maxInterval, Math.max(interval, delay));
+	}
+
+	@Override
+	protected synchronized void waitingIsFinished(long duration) {
+		if (averageDuration < 0) {
+			averageDuration = duration;
+			return;
+		}
+		averageDuration = DURATION_WEIGHT * duration + (1 - DURATION_WEIGHT)
+				* averageDuration;
+	}
+
+	@Override
+	public AdaptivePolling copy() {
+		return new AdaptivePolling(interval, maxInterval);
+	}
+
+	@Override
+	public String toString() {
+		return "adaptive polling from " + interval + " to " + maxInterval
+				+ " ms";
+	}
+}
@@ -0,0 +1,71 @@
+package com.github.arachnidium.core.polling;
+
+/**
+ * Supported kinds of {@link PollingStrategy}
+ */
+public enum EPollingStrategies {
+	/**
+	 * @see FixedPolling
+	 */
+	FIXED {
+		@Override
+		public PollingStrategy get(long interval, long maxInterval,
+				float multiplier, float jitter) {
+			return new FixedPolling(interval);
+		}
+	},
+	/**
+	 * @see ExponentialPolling
+	 */
+	EXPONENTIAL {
+		@Override
+		public PollingStrategy get(long interval, long maxInterval,
+				float multiplier, float jitter) {
+			return new ExponentialPolling(interval, maxInterval, multiplier);
+		}
+	},
+	/**
+	 * {@link ExponentialPolling} randomized by {@link JitteredPolling}
+	 */
+	JITTERED {
+		@Override
+		public PollingStrategy get(long interval, long maxInterval,
+				float multiplier, float jitter) {
+			return new JitteredPolling(new ExponentialPolling(interval,
+					maxInterval, multiplier), jitter);
+		}
+	},
+	/**
+	 * @see AdaptivePolling
+	 */
+	ADAPTIVE {
+		@Override
+		public PollingStrategy get(long interval, long maxInterval,
+				float multiplier, float jitter) {
+			return new AdaptivePolling(interval, maxInterval);
+		}
+	};
+
+	public final static float DEFAULT_MULTIPLIER = 2;
+	public final static float DEFAULT_JITTER = 0.5f;
+
+	/**
+	 * @param interval is the (first/minimum) interval of polling (milliseconds)
+	 * @param maxInterval is the maximum interval of polling (milliseconds)
+	 * @param multiplier is used by exponential strategies
+	 * @param jitter is used by randomized strategies 
+	 * @return the new {@link PollingStrategy}
+	 */
+	public abstract PollingStrategy get(long interval, long maxInterval,
+			float multiplier, float jitter);
+
+	/**
+	 * @param interval is the (first/minimum) interval of polling (milliseconds)
+	 * @param maxInterval is the maximum interval of polling (milliseconds)
+	 * @return the new {@link PollingStrategy} with default multiplier and 
+	 * jitter
+	 */
+	public PollingStrategy get(long interval, long maxInterval) {
+		return get(interval, maxInterval, DEFAULT_MULTIPLIER, DEFAULT_JITTER);
+	}
+}
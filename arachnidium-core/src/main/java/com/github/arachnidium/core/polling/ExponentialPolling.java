@@ -0,0 +1,37 @@
+package com.github.arachnidium.core.polling;
+
+/**
+ * The interval of polling grows after each failed attempt
+ * until it reaches the maximum value. Fast conditions are 
+ * checked often and slow ones don't produce a lot of remote calls.
+ */
+public class ExponentialPolling extends PollingStrategy {
+	private final long interval;
+	private final long maxInterval;
+	private final float multiplier;
+
+	/**
+	 * @param interval is the first interval of polling (milliseconds)
+	 * @param maxInterval is the maximum interval of polling (milliseconds)
+	 * @param multiplier each next interval is the previous one multiplied by it
+	 */
+	public ExponentialPolling(long interval, long maxInterval, float multiplier) {
+		this.interval = interval;
+		this.maxInterval = Math.max(interval, maxInterval);
+		this.multiplier = Math.max(1, multiplier);
+	}
+
+	@Override
+	protected long getDelay(int attempt) {
+		double delay = interval * Math.pow(multiplier, attempt - 1);
+		if (delay > maxInterval)
+			return maxInterval;
+		return (long) delay;
+	}
+
+	@Override
+	public String toString() {
+		return "exponential polling from " + interval + " to " + maxInterval
+				+ " ms multiplied by " + multiplier;
+	}
+}
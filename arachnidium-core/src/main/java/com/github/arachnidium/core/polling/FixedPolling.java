@@ -0,0 +1,25 @@
+package com.github.arachnidium.core.polling;
+
+/**
+ * Polls with the same interval
+ */
+public class FixedPolling extends PollingStrategy {
+	private final long interval;
+
+	/**
+	 * @param interval is the interval of polling (milliseconds)
+	 */
+	public FixedPolling(long interval) {
+		this.interval = interval;
+	}
+
+	@Override
+	protected long getDelay(int attempt) {
+		return interval;
+	}
+
+	@Override
+	public String toString() {
+		return "fixed polling every " + interval + " ms";
+	}
+}
@@ -0,0 +1,48 @@
+package com.github.arachnidium.core.polling;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Randomizes intervals of the given {@link PollingStrategy}.
+ * So many parallel sessions don't poll the same server simultaneously
+ */
+public class JitteredPolling extends PollingStrategy {
+	private final PollingStrategy strategy;
+	private final float jitter;
+
+	/**
+	 * @param strategy is the {@link PollingStrategy} which intervals are randomized
+	 * @param jitter is the ratio from 0 to 1. Each interval is changed 
+	 * randomly by this part of it (more or less)
+	 */
+	public JitteredPolling(PollingStrategy strategy, float jitter) {
+		this.strategy = strategy;
+		this.jitter = Math.min(1, Math.max(0, jitter));
+	}
+
+	@Override
+	protected long getDelay(int attempt) {
+		long delay = strategy.getDelay(attempt);
+		double deviation = delay * jitter
+				* ThreadLocalRandom.current().nextDouble(-1, 1);
+		return Math.round(delay + deviation);
+	}
+
+	@Override
+	protected void waitingIsFinished(long duration) {
+		strategy.waitingIsFinished(duration);
+	}
+
+	@Override
+	public PollingStrategy copy() {
+		PollingStrategy copy = strategy.copy();
+		if (copy == strategy)
+			return this;
+		return new JitteredPolling(copy, jitter);
+	}
+
+	@Override
+	public String toString() {
+		return strategy.toString() + " with jitter " + jitter;
+	}
+}
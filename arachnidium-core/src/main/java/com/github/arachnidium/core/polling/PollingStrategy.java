@@ -0,0 +1,145 @@
+package com.github.arachnidium.core.polling;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+
+import com.google.common.base.Function;
+
+/**
+ * Describes how long to sleep between attempts 
+ * while something is awaited by {@link FluentWait}
+ */
+public abstract class PollingStrategy {
+
+	/**
+	 * @param attempt is the number of the attempt that has just failed.
+	 * The first attempt has number 1
+	 * @return Time to sleep (milliseconds) before the next attempt
+	 */
+	protected abstract long getDelay(int attempt);
+
+	/**
+	 * @return the strategy with the same parameters which doesn't know
+	 * anything about previous waitings. So waitings which don't depend on
+	 * each other don't change intervals of each other. Strategies which
+	 * have no state return themselves
+	 */
+	public PollingStrategy copy() {
+		return this;
+	}
+
+	/**
+	 * @param attempt is the number of the attempt that has just failed.
+	 * The first attempt has number 1
+	 * @return Time to wait for (milliseconds) before the next attempt.
+	 * It is not negative
+	 */
+	public long getInterval(int attempt) {
+		return Math.max(0, getDelay(attempt));
+	}
+
+	/**
+	 * It is invoked when the waiting is finished successfully
+	 * 
+	 * @param duration is the duration of the waiting (milliseconds)
+	 */
+	protected void waitingIsFinished(long duration) {
+		// does nothing
+	}
+
+	/**
+	 * @return {@link Sleeper} which should be used by a single
+	 * {@link FluentWait}. The given interval of polling is ignored. 
+	 */
+	public Sleeper getSleeper() {
+		return new Sleeper() {
+			private int attempt;
+
+			@Override
+			public void sleep(Duration ignored) throws InterruptedException {
+				attempt++;
+				Thread.sleep(Math.max(0, getDelay(attempt)));
+			}
+		};
+	}
+
+	/**
+	 * Performs the waiting
+	 * 
+	 * @param wait is the {@link FluentWait} which is created with 
+	 * the {@link Sleeper} returned by {@link #getSleeper()}
+	 * @param isTrue is the function to wait for
+	 * @return The value returned by the given function
+	 */
+	public <T, V> V until(FluentWait<T> wait, Function<? super T, V> isTrue) {
+		long start = System.currentTimeMillis();
+		V result = wait.until(isTrue);
+		waitingIsFinished(System.currentTimeMillis() - start);
+		return result;
+	}
+
+	/**
+	 * Performs the waiting without blocking of the current thread.
+	 * Each attempt is a short task which is performed by the given
+	 * scheduler. {@link NotFoundException} thrown by the function is ignored 
+	 * as it is done by {@link org.openqa.selenium.support.ui.WebDriverWait}.
+	 * Attempts are stopped when the returned future is cancelled. 
+	 * 
+	 * @param input is the value which is given to the function
+	 * @param isTrue is the function to wait for
+	 * @param timeOut is the time to wait for
+	 * @param timeUnit is the {@link TimeUnit} of the time out
+	 * @param scheduler performs attempts
+	 * @return {@link CompletableFuture} which is completed by the value returned 
+	 * by the function or by {@link TimeoutException}
+	 */
+	public <T, V> CompletableFuture<V> untilAsync(T input,
+			Function<? super T, V> isTrue, long timeOut, TimeUnit timeUnit,
+			ScheduledExecutorService scheduler) {
+		CompletableFuture<V> result = new CompletableFuture<V>();
+		long start = System.currentTimeMillis();
+		long end = start + timeUnit.toMillis(timeOut);
+		scheduler.execute(new Runnable() {
+			private int attempt;
+			private RuntimeException lastException;
+
+			@Override
+			public void run() {
+				if (result.isDone())
+					return;
+				try {
+					V value = isTrue.apply(input);
+					if (value != null && !Boolean.FALSE.equals(value)) {
+						waitingIsFinished(System.currentTimeMillis() - start);
+						result.complete(value);
+						return;
+					}
+				} catch (NotFoundException e) {
+					lastException = e;
+				} catch (Throwable t) {
+					result.completeExceptionally(t);
+					return;
+				}
+
+				if (System.currentTimeMillis() >= end) {
+					result.completeExceptionally(new TimeoutException(
+							"Timed out after " + timeOut + " "
+									+ timeUnit.toString().toLowerCase()
+									+ " waiting for " + isTrue, lastException));
+					return;
+				}
+				attempt++;
+				scheduler.schedule(this, Math.max(0, getDelay(attempt)),
+						TimeUnit.MILLISECONDS);
+			}
+		});
+		return result;
+	}
+}
@@ -78,11 +78,12 @@ public enum EServices {
 	}
 
 	/**
-	 * Attempt to change system properties
+	 * Attempt to change system properties. It is synchronized 
+	 * because applications may be launched concurrently
 	 * @param configInstance is {@link Configuration} where
 	 * values of properties are specified
 	 */
-	public void setSystemProperty(Configuration configInstance) {
+	public synchronized void setSystemProperty(Configuration configInstance) {
 		if (System.getProperty(propertyName) != null) {
 			return; // if property is already set up
 		}
@@ -16,7 +16,7 @@ import com.github.arachnidium.core.services.interfaces.ILocalServerLauncher;
  */
 public class RemoteSeleniumServerLauncher implements ILocalServerLauncher {
 
-	private SeleniumServer server;
+	private volatile SeleniumServer server;
 	private final RemoteControlConfiguration rcc;
 	final boolean slowResources = false;
 	final String defaultLocalHost = "http://localhost:4444/wd/hub";
@@ -57,7 +57,7 @@ public class RemoteSeleniumServerLauncher implements ILocalServerLauncher {
      * @see com.github.arachnidium.core.services.interfaces.ILocalServerLauncher#isLaunched()
      */
 	@Override
-	public boolean isLaunched() {
+	public synchronized boolean isLaunched() {
 		if (server == null)
 			return false;
 		return server.getServer().isStarted();
@@ -68,7 +68,7 @@ public class RemoteSeleniumServerLauncher implements ILocalServerLauncher {
 	 * @see com.github.arachnidium.core.services.interfaces.ILocalServerLauncher#launch()
 	 */
 	@Override
-	public void launch() throws Exception {
+	public synchronized void launch() throws Exception {
 		try {
 			server = new SeleniumServer(slowResources, rcc);
 			server.start();
@@ -92,7 +92,7 @@ public class RemoteSeleniumServerLauncher implements ILocalServerLauncher {
 	 * @see com.github.arachnidium.core.services.interfaces.ILocalServerLauncher#stop()
 	 */
 	@Override
-	public void stop() {
+	public synchronized void stop() {
 		if (server == null)
 			return;
 		server.stop();
@@ -0,0 +1,48 @@
+package com.github.arachnidium.core.settings;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores parameters of the element highlighting:<br/>
+ * - the time (milliseconds) that the highlighted element is shown before
+ * and after the screenshot. If it is not specified or it is 0 then there is no pause
+ * and elements are highlighted only when screenshots are taken 
+ * (see {@link ScreenShots})<br/>
+ * <br/>
+ * Specification:
+ * 
+ * <p><br/>
+ *...<br/>
+ *"highlighting":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"delay":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (milliseconds)"<br/>     
+ *&nbsp;&nbsp;}<br/>
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ */
+@Group(settingGroup = "highlighting")
+public class Highlighting extends AbstractConfigurationAccessHelper {
+	private final static long DEFAULT_DELAY = 0; // milliseconds
+
+	protected Highlighting(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return The time (milliseconds) that the highlighted element is shown
+	 */
+	@Setting(setting = "delay")
+	public long getDelay() {
+		Long delay = getSetting();
+		if (delay == null || delay < 0)
+			return DEFAULT_DELAY;
+		return delay;
+	}
+}
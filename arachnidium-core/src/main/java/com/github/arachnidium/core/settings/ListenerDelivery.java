@@ -0,0 +1,84 @@
+package com.github.arachnidium.core.settings;
+
+import com.github.arachnidium.core.eventlisteners.EOverflowPolicies;
+import com.github.arachnidium.core.eventlisteners.SynchronousListener;
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores parameters of the event delivery to listeners
+ * which are found by SPI:<br/>
+ * - the flag to deliver events asynchronously. If it is not specified
+ * or it is false then listeners are notified in the thread that
+ * invokes the driver. Otherwise events of the session are delivered one after another
+ * by the separated thread. Listeners which are marked by {@link SynchronousListener}
+ * are notified synchronously anyway<br/>
+ * - the maximum number of events which are not delivered yet. Default value is 1024<br/>
+ * - what to do when there are too many events which are not delivered
+ * (see {@link EOverflowPolicies}). Default value is BLOCK<br/>
+ * <br/>
+ * Specification:
+ * 
+ * <p><br/>
+ *...<br/>
+ *"listenerDelivery":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"async":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"queueSize":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"overflowPolicy":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"STRING",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"BLOCK or DROP_NEWEST or DROP_OLDEST"<br/>     
+ *&nbsp;&nbsp;}<br/>
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ */
+@Group(settingGroup = "listenerDelivery")
+public class ListenerDelivery extends AbstractConfigurationAccessHelper {
+	private final static long DEFAULT_QUEUE_SIZE = 1024;
+
+	protected ListenerDelivery(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return Flag to deliver events asynchronously
+	 */
+	@Setting(setting = "async")
+	public boolean isAsync() {
+		Boolean async = getSetting();
+		return async != null && async;
+	}
+
+	/**
+	 * @return The maximum number of events which are not delivered yet
+	 */
+	@Setting(setting = "queueSize")
+	public long getQueueSize() {
+		Long queueSize = getSetting();
+		if (queueSize == null || queueSize <= 0)
+			return DEFAULT_QUEUE_SIZE;
+		return queueSize;
+	}
+
+	/**
+	 * @return What to do when the queue of events is full
+	 */
+	@Setting(setting = "overflowPolicy")
+	public EOverflowPolicies getOverflowPolicy() {
+		String policy = getSetting();
+		if (policy != null)
+			return EOverflowPolicies.valueOf(policy.toUpperCase());
+		else
+			return EOverflowPolicies.BLOCK;
+	}
+}
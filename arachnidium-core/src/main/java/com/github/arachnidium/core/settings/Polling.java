@@ -0,0 +1,118 @@
+package com.github.arachnidium.core.settings;
+
+import com.github.arachnidium.core.polling.EPollingStrategies;
+import com.github.arachnidium.core.polling.PollingStrategy;
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores the strategy of polling which is used 
+ * when something is awaited (windows, contexts, root elements etc.)
+ * 
+ * Specification:
+ * 
+ * <p><br/>
+ *...<br/>
+ *"polling":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"strategy":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"STRING",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"FIXED, EXPONENTIAL, JITTERED or ADAPTIVE"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"interval":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (milliseconds)"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"maxInterval":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (milliseconds)"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"multiplier":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"FLOAT",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some float value"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"jitter":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"FLOAT",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some float value from 0 to 1"<br/>     
+ *&nbsp;&nbsp;}<br/>
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ *@see EPollingStrategies
+ */
+@Group(settingGroup = "polling")
+public class Polling extends AbstractConfigurationAccessHelper {
+	private final static long DEFAULT_INTERVAL = 100; // milliseconds
+	private final static long DEFAULT_MAX_INTERVAL = 2000; // milliseconds
+
+	protected Polling(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	/**
+	 * @return {@link EPollingStrategies} value or <code>null</code>
+	 * if it is not specified
+	 */
+	@Setting(setting = "strategy")
+	public EPollingStrategies getStrategy() {
+		String strategy = getSetting();
+		if (strategy != null)
+			return EPollingStrategies.valueOf(strategy.toUpperCase());
+		else
+			return null;
+	}
+
+	/**
+	 * @return {@link Long} value of the (first/minimum) interval of polling
+	 */
+	@Setting(setting = "interval")
+	public Long getInterval() {
+		return getSetting();
+	}
+
+	/**
+	 * @return {@link Long} value of the maximum interval of polling
+	 */
+	@Setting(setting = "maxInterval")
+	public Long getMaxInterval() {
+		return getSetting();
+	}
+
+	/**
+	 * @return {@link Float} value of the multiplier of the interval
+	 */
+	@Setting(setting = "multiplier")
+	public Float getMultiplier() {
+		return getSetting();
+	}
+
+	/**
+	 * @return {@link Float} value of the jitter
+	 */
+	@Setting(setting = "jitter")
+	public Float getJitter() {
+		return getSetting();
+	}
+
+	/**
+	 * @return The new {@link PollingStrategy} according to specified values or
+	 * <code>null</code> if the strategy is not specified
+	 */
+	public PollingStrategy getPollingStrategy() {
+		EPollingStrategies strategy = getStrategy();
+		if (strategy == null)
+			return null;
+		Long interval = getInterval();
+		Long maxInterval = getMaxInterval();
+		Float multiplier = getMultiplier();
+		Float jitter = getJitter();
+		return strategy.get(interval != null ? interval : DEFAULT_INTERVAL,
+				maxInterval != null ? maxInterval : DEFAULT_MAX_INTERVAL,
+				multiplier != null ? multiplier
+						: EPollingStrategies.DEFAULT_MULTIPLIER,
+				jitter != null ? jitter : EPollingStrategies.DEFAULT_JITTER);
+	}
+}
@@ -3,6 +3,8 @@ package com.github.arachnidium.core.settings;
 import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
 import com.github.arachnidium.util.configuration.Configuration;
 import com.github.arachnidium.util.configuration.Group;
+import com.github.arachnidium.util.logging.FlightRecorder;
+import com.github.arachnidium.util.logging.eAvailableLevels;
 
 import org.openqa.selenium.ContextAware;
 import org.openqa.selenium.WebDriver.Window;
@@ -12,6 +14,12 @@ import org.openqa.selenium.WebDriver.Window;
  * - to take screenshots when element is highlighted<br/>
  * - to take screenshots when new browser {@link Window} or context (see {@link ContextAware})<br/>
  * is found<br/> 
+ * - the number of log records (with screenshots and page sources) which are
+ * kept in memory for each thread instead of the publishing. They are published
+ * only when the record of the given level is logged (see {@link FlightRecorder}).
+ * If it is not specified or it is 0 then records are published immediately<br/>
+ * - the level of the record that makes kept records published. It is SEVERE
+ * by default (see {@link eAvailableLevels})<br/>
  * <br/> 
  * Specification:<br/> 
  * 
@@ -26,6 +34,14 @@ import org.openqa.selenium.WebDriver.Window;
  *&nbsp;&nbsp;"toTakeScreenShotsOfNewHandles":{<br/>
  *&nbsp;&nbsp;&nbsp;&nbsp;"type":"BOOL",<br/>
  *&nbsp;&nbsp;&nbsp;&nbsp;"value":"flag value"<br/>           
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"keptRecords":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value"<br/>
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"dumpLevel":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"STRING",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"FINE or INFO or WARN or SEVERE"<br/>
  *&nbsp;&nbsp;}<br/>              
  *}<br/>
  *...<br/>
@@ -37,6 +53,7 @@ import org.openqa.selenium.WebDriver.Window;
 public class ScreenShots extends AbstractConfigurationAccessHelper {
 	// screenshot group
 	private final Boolean DEFAULT_VALUE = false;
+	private final static long DEFAULT_KEPT_RECORDS = 0;
 
 	protected ScreenShots(Configuration configuration, String group) {
 		super(configuration, group);
@@ -65,4 +82,28 @@ public class ScreenShots extends AbstractConfigurationAccessHelper {
 		return returnExplicitOrDefaultValue(getSetting());
 	}
 
+	/**
+	 * @return the number of log records which are kept in memory
+	 * for each thread
+	 */
+	@Setting(setting = "keptRecords")
+	public long getKeptRecords() {
+		Long keptRecords = getSetting();
+		if (keptRecords == null || keptRecords < 0)
+			return DEFAULT_KEPT_RECORDS;
+		return keptRecords;
+	}
+
+	/**
+	 * @return the level of the record that makes kept records published
+	 */
+	@Setting(setting = "dumpLevel")
+	public eAvailableLevels getDumpLevel() {
+		String level = getSetting();
+		if (level != null)
+			return eAvailableLevels.valueOf(level.toUpperCase());
+		else
+			return eAvailableLevels.SEVERE;
+	}
+
 }
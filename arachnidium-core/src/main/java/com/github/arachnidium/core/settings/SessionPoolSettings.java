@@ -0,0 +1,90 @@
+package com.github.arachnidium.core.settings;
+
+import com.github.arachnidium.util.configuration.AbstractConfigurationAccessHelper;
+import com.github.arachnidium.util.configuration.Configuration;
+import com.github.arachnidium.util.configuration.Group;
+
+/**
+ * Stores parameters of the pool of warm browser sessions:<br/>
+ * - the number of sessions which are launched beforehand. 
+ * If it is not specified or it is 0 then sessions are not pooled<br/>
+ * - the time (seconds) that an unused session is kept. Default value is 300<br/>
+ * - how many times a session can be used. If it is not specified or it is 0 
+ * then the number is unlimited<br/>
+ * <br/>
+ * The returned session is cleaned before it is used again (see 
+ * {@link com.github.arachnidium.core.WebDriverEncapsulation#reset()}). 
+ * WebDriver can delete cookies and storage only of the site which a window 
+ * is showing. If the session has visited a site which no window is showing 
+ * at the end then the session is quit instead of reuse. Only sites which 
+ * were navigated to or whose URLs were received are known. Cookies of sites 
+ * which were shown only inside frames or reached by redirects may be kept. 
+ * Don't pool sessions if tests depend on the clean state of such sites.<br/>
+ * <br/>
+ * Specification:
+ * 
+ * <p><br/>
+ *...<br/>
+ *"sessionPool":<br/>
+ *{<br/>
+ *&nbsp;&nbsp;"size":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"idleTimeOut":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value (seconds)"<br/>     
+ *&nbsp;&nbsp;},<br/>
+ *&nbsp;&nbsp;"maxUses":{<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"type":"LONG",<br/>
+ *&nbsp;&nbsp;&nbsp;&nbsp;"value":"some long value"<br/>     
+ *&nbsp;&nbsp;}<br/>
+ *}<br/>
+ *...<br/>
+ *</p>
+ *
+ *@see Configuration
+ */
+@Group(settingGroup = "sessionPool")
+public class SessionPoolSettings extends AbstractConfigurationAccessHelper {
+	private final static long DEFAULT_SIZE = 0;
+	private final static long DEFAULT_IDLE_TIME_OUT = 300; // seconds
+	private final static long DEFAULT_MAX_USES = 0;
+
+	protected SessionPoolSettings(Configuration configuration, String group) {
+		super(configuration, group);
+	}
+
+	private static long returnExplicitOrDefaultValue(Long value,
+			long defaultValue) {
+		if (value == null)
+			return defaultValue;
+		return value;
+	}
+
+	/**
+	 * @return The number of sessions which are launched beforehand
+	 */
+	@Setting(setting = "size")
+	public long getSize() {
+		return returnExplicitOrDefaultValue(getSetting(), DEFAULT_SIZE);
+	}
+
+	/**
+	 * @return The time (seconds) that an unused session is kept
+	 */
+	@Setting(setting = "idleTimeOut")
+	public long getIdleTimeOut() {
+		return returnExplicitOrDefaultValue(getSetting(),
+				DEFAULT_IDLE_TIME_OUT);
+	}
+
+	/**
+	 * @return How many times a session can be used. 0 means 
+	 * that the number is unlimited
+	 */
+	@Setting(setting = "maxUses")
+	public long getMaxUses() {
+		return returnExplicitOrDefaultValue(getSetting(), DEFAULT_MAX_USES);
+	}
+}
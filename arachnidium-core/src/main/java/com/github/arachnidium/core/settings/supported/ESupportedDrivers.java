@@ -330,17 +330,20 @@ public enum ESupportedDrivers {
 
 	/**
 	 * Starts remote server locally It is possible to launch
-	 * {@link SeleniumServer} locally for now
+	 * {@link SeleniumServer} locally for now. The server is 
+	 * launched once even if applications are launched concurrently
 	 */
-	public synchronized void launchRemoteServerLocallyIfWasDefined() {
+	public void launchRemoteServerLocallyIfWasDefined() {
 		if (serverLauncher == null)
 			return;
-		if (serverLauncher.isLaunched())
-			return;
-		try {
-			serverLauncher.launch();
-		} catch (Exception e) {
-			throw new RuntimeException(e);
+		synchronized (serverLauncher) {
+			if (serverLauncher.isLaunched())
+				return;
+			try {
+				serverLauncher.launch();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
 		}
 	}
 
@@ -0,0 +1,151 @@
+package com.github.arachnidium.core;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.polling.AdaptivePolling;
+import com.github.arachnidium.core.polling.FixedPolling;
+
+public class HandleWatcherTest {
+
+	private final ScheduledExecutorService scheduler = Executors
+			.newScheduledThreadPool(2);
+	private final WebDriver driver = (WebDriver) Proxy.newProxyInstance(
+			WebDriver.class.getClassLoader(),
+			new Class<?>[] { WebDriver.class }, (proxy, method, args) -> {
+				throw new UnsupportedOperationException(method.getName());
+			});
+
+	@AfterClass
+	public void tearDown() {
+		scheduler.shutdownNow();
+	}
+
+	// the condition is true when there are two handles
+	private static ExpectedCondition<String> secondHandleIsPresent(
+			Supplier<Set<String>> handles, AtomicInteger evaluations) {
+		return from -> {
+			evaluations.incrementAndGet();
+			Set<String> present = handles.get();
+			return present.size() > 1 ? "second" : null;
+		};
+	}
+
+	@Test
+	public void pollingDoesntRequestHandlesTwice() {
+		HandleWatcher watcher = new HandleWatcher(scheduler);
+		AtomicInteger watcherRequests = new AtomicInteger();
+		AtomicInteger evaluations = new AtomicInteger();
+		ExpectedCondition<Integer> condition = from -> evaluations
+				.incrementAndGet() == 3 ? 3 : null;
+
+		Assert.assertEquals((int) watcher.await(driver, () -> {
+			watcherRequests.incrementAndGet();
+			return Collections.singleton("first");
+		}, new FixedPolling(10), 5, condition), 3);
+		// the condition requests handles itself
+		Assert.assertEquals(watcherRequests.get(), 0);
+	}
+
+	@Test
+	public void configuredIntervalIsNotLimited() {
+		HandleWatcher watcher = new HandleWatcher(scheduler);
+		AtomicInteger evaluations = new AtomicInteger();
+		long start = System.currentTimeMillis();
+		try {
+			watcher.await(driver, Collections::emptySet, new FixedPolling(10),
+					1, from -> {
+						evaluations.incrementAndGet();
+						return null;
+					});
+			Assert.fail("The waiting should be timed out");
+		} catch (TimeoutException expected) {
+		}
+		long duration = System.currentTimeMillis() - start;
+		Assert.assertTrue(duration >= 1000 && duration < 3000, "The duration is "
+				+ duration);
+		Assert.assertTrue(evaluations.get() > 20, "There were "
+				+ evaluations.get() + " attempts");
+	}
+
+	@Test
+	public void adaptiveStrategyLearnsFromHandleWaitings() {
+		HandleWatcher watcher = new HandleWatcher(scheduler);
+		AdaptivePolling strategy = new AdaptivePolling(50, 1000);
+		long end = System.currentTimeMillis() + 1000;
+		watcher.await(driver, Collections::emptySet, strategy, 5,
+				from -> System.currentTimeMillis() >= end ? true : null);
+		Assert.assertTrue(strategy.getInterval(1) > 50, "The interval is "
+				+ strategy.getInterval(1));
+	}
+
+	@Test
+	public void eventIsCheckedByTheScheduler() throws Exception {
+		HandleWatcher watcher = new HandleWatcher(scheduler);
+		Set<String> handles = Collections.synchronizedSet(new HashSet<String>(
+				Collections.singleton("first")));
+		Supplier<Set<String>> handleSupplier = () -> new HashSet<String>(
+				handles);
+		AtomicReference<Thread> checkingThread = new AtomicReference<Thread>();
+		AtomicInteger evaluations = new AtomicInteger();
+		ExpectedCondition<String> condition = secondHandleIsPresent(
+				handleSupplier, evaluations);
+
+		// polling is too slow to find the new handle during the test
+		CompletableFuture<String> found = watcher.awaitAsync(driver, () -> {
+			checkingThread.set(Thread.currentThread());
+			return handleSupplier.get();
+		}, new FixedPolling(60000), 60, condition, scheduler);
+		// the first attempt
+		Thread.sleep(200);
+		Assert.assertFalse(found.isDone());
+
+		handles.add("second");
+		watcher.whenPageIsChanged();
+		Assert.assertEquals(found.get(5, TimeUnit.SECONDS), "second");
+		Assert.assertNotSame(checkingThread.get(), Thread.currentThread());
+		// the first attempt and the event check
+		Assert.assertEquals(evaluations.get(), 2);
+	}
+
+	@Test
+	public void eventDoesntEvaluateTheConditionIfHandlesAreNotChanged()
+			throws Exception {
+		HandleWatcher watcher = new HandleWatcher(scheduler);
+		AtomicInteger requests = new AtomicInteger();
+		AtomicInteger evaluations = new AtomicInteger();
+		CompletableFuture<Object> waiting = watcher.awaitAsync(driver, () -> {
+			requests.incrementAndGet();
+			return Collections.singleton("first");
+		}, new FixedPolling(60000), 60, from -> {
+			evaluations.incrementAndGet();
+			return null;
+		}, scheduler);
+		Thread.sleep(200);
+
+		for (int i = 0; i < 3; i++) {
+			watcher.whenPageIsChanged();
+			Thread.sleep(100);
+		}
+		// the first event finds out the set of handles
+		Assert.assertEquals(evaluations.get(), 2);
+		Assert.assertEquals(requests.get(), 3);
+		waiting.cancel(false);
+	}
+}
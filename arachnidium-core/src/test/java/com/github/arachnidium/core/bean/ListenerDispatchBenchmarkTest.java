@@ -0,0 +1,60 @@
+package com.github.arachnidium.core.bean;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.fluenthandle.PageMetadataCache;
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
+import com.github.arachnidium.util.configuration.Configuration;
+
+/**
+ * Measures the overhead of the intercepted call. The listenable
+ * {@link HtmlUnitDriver} is called many times after the warm-up.
+ * Each call is dispatched to listeners of {@link AspectWebDriverEventListener}
+ * before and after the target method.
+ */
+public class ListenerDispatchBenchmarkTest {
+
+	private final static int WARM_UP_CALLS = 20000;
+	private final static int CALLS = 200000;
+	private final static int ROUNDS = 5;
+	// the overhead was about 17 microseconds when listener methods were
+	// looked for on each call
+	private final static long MAX_NANOS_PER_CALL = 10000;
+
+	private static long nanosPerCall(WebDriver.Options options, int calls) {
+		long start = System.nanoTime();
+		for (int i = 0; i < calls; i++)
+			options.getCookies();
+		return (System.nanoTime() - start) / calls;
+	}
+
+	@Test
+	public void interceptedCallIsCheap() {
+		SessionBeanFactory factory = new SessionBeanFactory(
+				() -> Configuration.byDefault, () -> {
+				}, new IHandleStateObserver() {
+				}, new PageMetadataCache());
+		WebDriver driver = factory.getWebdriver(HtmlUnitDriver.class,
+				new Object[] {});
+		try {
+			driver.get("about:blank");
+			WebDriver.Options options = driver.manage();
+			nanosPerCall(options, WARM_UP_CALLS);
+
+			long best = Long.MAX_VALUE;
+			for (int r = 0; r < ROUNDS; r++) {
+				long nanos = nanosPerCall(options, CALLS);
+				System.out.println(String.format(
+						"round %d: %d ns per intercepted call", r + 1, nanos));
+				best = Math.min(best, nanos);
+			}
+			Assert.assertTrue(best < MAX_NANOS_PER_CALL, "The intercepted call "
+					+ "took " + best + " ns");
+		} finally {
+			driver.quit();
+		}
+	}
+}
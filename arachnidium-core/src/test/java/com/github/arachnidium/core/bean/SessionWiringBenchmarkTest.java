@@ -0,0 +1,72 @@
+package com.github.arachnidium.core.bean;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.fluenthandle.PageMetadataCache;
+import com.github.arachnidium.core.interfaces.IHandleStateObserver;
+import com.github.arachnidium.util.configuration.Configuration;
+
+/**
+ * Measures the time which is needed to make the driver of the new session
+ * listenable. The first session parses pointcuts and generates proxy
+ * classes. Next sessions should reuse them. {@link HtmlUnitDriver} is used
+ * so no browser is started. The first session is measured in the fresh JVM
+ * only when this test is run alone.
+ */
+public class SessionWiringBenchmarkTest {
+
+	private final static int SESSION_COUNT = 50;
+
+	private static class Session {
+		private final WebDriver driver;
+		private final long nanos;
+
+		private Session(WebDriver driver, long nanos) {
+			this.driver = driver;
+			this.nanos = nanos;
+		}
+	}
+
+	// wires the session and proxies the same components as the session does
+	private static Session wire() {
+		long start = System.nanoTime();
+		SessionBeanFactory factory = new SessionBeanFactory(
+				() -> Configuration.byDefault, () -> {
+				}, new IHandleStateObserver() {
+				}, new PageMetadataCache());
+		WebDriver driver = factory.getWebdriver(HtmlUnitDriver.class,
+				new Object[] {});
+		driver.manage().timeouts();
+		driver.navigate();
+		return new Session(driver, System.nanoTime() - start);
+	}
+
+	@Test
+	public void nextSessionsReuseWhatTheFirstOneHasPrepared() {
+		Session first = wire();
+		long total = 0;
+		try {
+			for (int i = 0; i < SESSION_COUNT; i++) {
+				Session next = wire();
+				try {
+					total += next.nanos;
+					Assert.assertSame(next.driver.getClass(),
+							first.driver.getClass());
+				} finally {
+					next.driver.quit();
+				}
+			}
+		} finally {
+			first.driver.quit();
+		}
+		double firstMillis = first.nanos / 1e6;
+		double nextMillis = total / 1e6 / SESSION_COUNT;
+		System.out.println(String.format(
+				"the first session - %.1f ms, each next session - %.1f ms "
+						+ "(%d sessions)", firstMillis, nextMillis,
+				SESSION_COUNT));
+	}
+}
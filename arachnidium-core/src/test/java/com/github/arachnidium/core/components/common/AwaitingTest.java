@@ -0,0 +1,110 @@
+package com.github.arachnidium.core.components.common;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.github.arachnidium.core.polling.AdaptivePolling;
+import com.github.arachnidium.core.polling.FixedPolling;
+import com.github.arachnidium.core.polling.PollingStrategy;
+
+public class AwaitingTest {
+
+	private static WebDriver getFakeDriver() {
+		return (WebDriver) Proxy.newProxyInstance(
+				WebDriver.class.getClassLoader(),
+				new Class<?>[] { WebDriver.class }, (proxy, method, args) -> {
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	// the condition is true after the given time. Each returned
+	// condition has the same class
+	private static ExpectedCondition<Boolean> isTrueAfter(long millis) {
+		long end = System.currentTimeMillis() + millis;
+		return driver -> System.currentTimeMillis() >= end ? true : null;
+	}
+
+	private static ExpectedCondition<Boolean> isTrue() {
+		return driver -> true;
+	}
+
+	@Test
+	public void adaptiveStrategyLearnsFromWaitingsOfTheSameType() {
+		AdaptivePolling configured = new AdaptivePolling(100, 1000);
+		Awaiting awaiting = new Awaiting(getFakeDriver(), () -> configured);
+		Class<?> waitingType = isTrueAfter(0).getClass();
+
+		awaiting.awaitCondition(5, isTrueAfter(1000));
+		PollingStrategy learned = awaiting.getPollingStrategy(waitingType);
+		long interval = learned.getInterval(1);
+		// the fifth part of the duration of the waiting
+		Assert.assertTrue(interval >= 200 && interval < 1000,
+				"The interval is " + interval);
+		// the configured strategy is not changed
+		Assert.assertEquals(configured.getInterval(1), 100);
+
+		awaiting.awaitCondition(5, isTrueAfter(0));
+		Assert.assertSame(awaiting.getPollingStrategy(waitingType), learned);
+		Assert.assertTrue(learned.getInterval(1) < interval);
+	}
+
+	@Test
+	public void asynchronousWaitingsAreLearnedToo() throws Exception {
+		AdaptivePolling configured = new AdaptivePolling(100, 1000);
+		Awaiting awaiting = new Awaiting(getFakeDriver(), () -> configured);
+
+		awaiting.awaitConditionAsync(5, isTrueAfter(1000)).get(10,
+				TimeUnit.SECONDS);
+		long interval = awaiting.getPollingStrategy(
+				isTrueAfter(0).getClass()).getInterval(1);
+		Assert.assertTrue(interval >= 200 && interval < 1000,
+				"The interval is " + interval);
+	}
+
+	@Test
+	public void otherTypesOfWaitingsAreNotAffected() {
+		Awaiting awaiting = new Awaiting(getFakeDriver(),
+				() -> new AdaptivePolling(100, 1000));
+		awaiting.awaitCondition(5, isTrueAfter(1000));
+		// the supplier returns new strategy each time
+		Assert.assertEquals(awaiting.getPollingStrategy(isTrue().getClass())
+				.getInterval(1), 100);
+
+		AdaptivePolling configured = new AdaptivePolling(100, 1000);
+		Awaiting another = new Awaiting(getFakeDriver(), () -> configured);
+		another.awaitCondition(5, isTrueAfter(1000));
+		Assert.assertEquals(another.getPollingStrategy(isTrue().getClass())
+				.getInterval(1), 100);
+	}
+
+	@Test
+	public void learningStartsAgainWhenTheStrategyIsReconfigured() {
+		AtomicReference<PollingStrategy> configured = new AtomicReference<PollingStrategy>(
+				new AdaptivePolling(100, 1000));
+		Awaiting awaiting = new Awaiting(getFakeDriver(), configured::get);
+		Class<?> waitingType = isTrueAfter(0).getClass();
+		awaiting.awaitCondition(5, isTrueAfter(1000));
+		Assert.assertTrue(awaiting.getPollingStrategy(waitingType)
+				.getInterval(1) > 100);
+
+		configured.set(new AdaptivePolling(50, 1000));
+		Assert.assertEquals(awaiting.getPollingStrategy(waitingType)
+				.getInterval(1), 50);
+	}
+
+	@Test
+	public void statelessStrategyIsUsedAsItIs() {
+		PollingStrategy configured = new FixedPolling(100);
+		Awaiting awaiting = new Awaiting(getFakeDriver(), () -> configured);
+		Assert.assertSame(awaiting.getPollingStrategy(isTrue().getClass()),
+				configured);
+		Assert.assertNull(new Awaiting(getFakeDriver())
+				.getPollingStrategy(isTrue().getClass()));
+	}
+}
@@ -0,0 +1,44 @@
+package com.github.arachnidium.core.fluenthandle;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PageMetadataCacheTest {
+
+	@Test
+	public void originIsSchemeHostAndPort() {
+		Assert.assertEquals(
+				PageMetadataCache.getOrigin("HTTPS://Example.com/a/b?c=d#e"),
+				"https://example.com");
+		Assert.assertEquals(
+				PageMetadataCache.getOrigin("http://localhost:8080/page"),
+				"http://localhost:8080");
+	}
+
+	@Test
+	public void pagesWithoutSiteDataHaveNoOrigin() {
+		Assert.assertNull(PageMetadataCache.getOrigin("about:blank"));
+		Assert.assertNull(PageMetadataCache.getOrigin("data:text/html,<p>"));
+		Assert.assertNull(PageMetadataCache.getOrigin("file:///tmp/page.html"));
+		Assert.assertNull(PageMetadataCache.getOrigin(null));
+	}
+
+	@Test
+	public void visitedOriginsAreKeptUntilTheyAreForgotten() {
+		PageMetadataCache cache = new PageMetadataCache();
+		cache.addVisitedUrl("http://first.com/login");
+		cache.setCurrentUrl("window", "https://second.com/");
+		cache.addVisitedUrl("about:blank");
+		// a new navigation epoch doesn't forget them
+		cache.whenPageIsChanged();
+		cache.whenWindowIsClosed();
+
+		Assert.assertEquals(cache.getVisitedOrigins(), new HashSet<String>(
+				Arrays.asList("http://first.com", "https://second.com")));
+		cache.forgetVisitedOrigins();
+		Assert.assertTrue(cache.getVisitedOrigins().isEmpty());
+	}
+}
@@ -0,0 +1,181 @@
+package com.github.arachnidium.core.fluenthandle;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriver.TargetLocator;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the number of requests (round trips) and the time which are
+ * needed to find a browser window by the probe script and by separate
+ * requests of title and URL. The fake driver has 20 windows and each
+ * request takes {@link #LATENCY} milliseconds.
+ */
+public class PageProbeBenchmarkTest {
+
+	private final static int WINDOW_COUNT = 20;
+	private final static long LATENCY = 2;
+
+	/**
+	 * The browser with {@link #WINDOW_COUNT} windows. Each invocation of
+	 * the driver or its target locator is counted as one request
+	 */
+	private static class FakeBrowser {
+		private final AtomicInteger requests = new AtomicInteger();
+		private final Set<String> handles = new LinkedHashSet<String>();
+		private String current;
+		private final WebDriver driver;
+
+		private FakeBrowser(boolean canExecuteScript) {
+			for (int i = 0; i < WINDOW_COUNT; i++)
+				handles.add("window" + i);
+			current = "window0";
+			Class<?>[] interfaces = canExecuteScript ? new Class<?>[] {
+					WebDriver.class, JavascriptExecutor.class }
+					: new Class<?>[] { WebDriver.class };
+			driver = (WebDriver) Proxy.newProxyInstance(
+					WebDriver.class.getClassLoader(), interfaces,
+					getDriverHandler());
+		}
+
+		private static String getTitle(String handle) {
+			return "Page " + handle;
+		}
+
+		private static String getUrl(String handle) {
+			return "http://localhost/" + handle;
+		}
+
+		private void request() {
+			requests.incrementAndGet();
+			try {
+				Thread.sleep(LATENCY);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private InvocationHandler getDriverHandler() {
+			TargetLocator locator = (TargetLocator) Proxy.newProxyInstance(
+					TargetLocator.class.getClassLoader(),
+					new Class<?>[] { TargetLocator.class },
+					(proxy, method, args) -> {
+						if (!method.getName().equals("window"))
+							throw new UnsupportedOperationException(method
+									.getName());
+						request();
+						current = (String) args[0];
+						return driver;
+					});
+			return (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "switchTo":
+					return locator;
+				case "getWindowHandles":
+					request();
+					return new LinkedHashSet<String>(handles);
+				case "getTitle":
+					request();
+					return getTitle(current);
+				case "getCurrentUrl":
+					request();
+					return getUrl(current);
+				case "executeScript":
+					request();
+					Assert.assertEquals(args[0],
+							PageMetadataCache.PAGE_PROBE_SCRIPT);
+					return Arrays.asList(getTitle(current), getUrl(current),
+							"complete");
+				default:
+					throw new UnsupportedOperationException(method.getName());
+				}
+			};
+		}
+	}
+
+	private static class Result {
+		private final int requests;
+		private final long millis;
+
+		private Result(int requests, long millis) {
+			this.requests = requests;
+			this.millis = millis;
+		}
+	}
+
+	// finds each window by the condition which is returned for its index
+	private static Result findEachWindow(boolean canExecuteScript,
+			boolean isCacheUsed, ConditionByIndex conditionByIndex) {
+		FakeBrowser browser = new FakeBrowser(canExecuteScript);
+		FluentPageWaiting waiting = isCacheUsed ? new FluentPageWaiting(
+				new PageMetadataCache()) : new FluentPageWaiting();
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < WINDOW_COUNT; i++) {
+			String found = conditionByIndex.get(waiting, i).apply(
+					browser.driver);
+			Assert.assertEquals(found, "window" + i);
+		}
+		return new Result(browser.requests.get(), System.currentTimeMillis()
+				- start);
+	}
+
+	private interface ConditionByIndex {
+		ExpectedCondition<String> get(FluentPageWaiting waiting, int index);
+	}
+
+	private static String title(int index) {
+		return "^Page window" + index + "$";
+	}
+
+	private static List<String> urls(int index) {
+		return Arrays.asList("/window" + index + "$");
+	}
+
+	private static Result[] compare(String name, boolean isCacheUsed,
+			ConditionByIndex conditionByIndex) {
+		Result probe = findEachWindow(true, isCacheUsed, conditionByIndex);
+		Result separate = findEachWindow(false, isCacheUsed, conditionByIndex);
+		System.out.println(String.format(
+				"%s, %d windows: the probe script - %d requests, %d ms; "
+						+ "separate requests - %d requests, %d ms", name,
+				WINDOW_COUNT, probe.requests, probe.millis, separate.requests,
+				separate.millis));
+		return new Result[] { probe, separate };
+	}
+
+	@Test
+	public void indexTitleAndUrlsTakeOneRequest() {
+		Result[] results = compare("index + title + URL", false,
+				(waiting, i) -> waiting.getHandle(i, title(i), urls(i)));
+		// handles, switching and the probe for each window
+		Assert.assertEquals(results[0].requests, 3 * WINDOW_COUNT);
+		// handles, switching, title and URL for each window
+		Assert.assertEquals(results[1].requests, 4 * WINDOW_COUNT);
+	}
+
+	@Test
+	public void titleAndUrlsOfAllWindowsAreCachedByTheProbe() {
+		Result[] results = compare("title + URL", true,
+				(waiting, i) -> waiting.getHandle(title(i), urls(i)));
+		Assert.assertTrue(results[0].requests < results[1].requests,
+				results[0].requests + " requests were sent instead of "
+						+ results[1].requests);
+	}
+
+	@Test
+	public void indexAndTitleAreNotSlowerThanBefore() {
+		Result[] results = compare("index + title", false,
+				(waiting, i) -> waiting.getHandle(i, title(i)));
+		Assert.assertEquals(results[0].requests, results[1].requests);
+	}
+}
@@ -0,0 +1,143 @@
+package com.github.arachnidium.core.polling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PollingStrategyTest {
+
+	@Test
+	public void fixedPollingKeepsTheInterval() {
+		PollingStrategy strategy = new FixedPolling(250);
+		for (int attempt = 1; attempt <= 10; attempt++)
+			Assert.assertEquals(strategy.getInterval(attempt), 250);
+	}
+
+	@Test
+	public void exponentialPollingGrowsUpToTheMaximum() {
+		PollingStrategy strategy = new ExponentialPolling(100, 1000, 2);
+		long[] expected = { 100, 200, 400, 800, 1000, 1000 };
+		for (int i = 0; i < expected.length; i++)
+			Assert.assertEquals(strategy.getInterval(i + 1), expected[i]);
+	}
+
+	@Test
+	public void exponentialPollingNeverShrinks() {
+		// the multiplier less than 1 and the maximum less than the
+		// first interval are corrected
+		PollingStrategy strategy = new ExponentialPolling(300, 100, 0.5f);
+		for (int attempt = 1; attempt <= 5; attempt++)
+			Assert.assertEquals(strategy.getInterval(attempt), 300);
+	}
+
+	@Test
+	public void jitteredPollingStaysWithinTheJitter() {
+		PollingStrategy strategy = new JitteredPolling(new FixedPolling(1000),
+				0.5f);
+		for (int attempt = 1; attempt <= 1000; attempt++) {
+			long interval = strategy.getInterval(attempt);
+			Assert.assertTrue(interval >= 500 && interval <= 1500,
+					"The interval is " + interval);
+		}
+	}
+
+	@Test
+	public void jitteredPollingWithoutJitterIsNotRandom() {
+		PollingStrategy strategy = new JitteredPolling(new ExponentialPolling(
+				100, 1000, 2), 0);
+		Assert.assertEquals(strategy.getInterval(1), 100);
+		Assert.assertEquals(strategy.getInterval(3), 400);
+	}
+
+	@Test
+	public void intervalIsNeverNegative() {
+		PollingStrategy strategy = new FixedPolling(-10);
+		Assert.assertEquals(strategy.getInterval(1), 0);
+	}
+
+	@Test
+	public void adaptivePollingStartsFromTheMinimum() {
+		Assert.assertEquals(new AdaptivePolling(100, 1000).getInterval(1), 100);
+	}
+
+	@Test
+	public void adaptivePollingFollowsTheAverageDuration() {
+		AdaptivePolling strategy = new AdaptivePolling(100, 1000);
+		strategy.waitingIsFinished(2000);
+		// the fifth part of the average duration
+		Assert.assertEquals(strategy.getInterval(1), 400);
+		strategy.waitingIsFinished(1000);
+		// 0.3 * 1000 + 0.7 * 2000 = 1700
+		Assert.assertEquals(strategy.getInterval(1), 340);
+	}
+
+	@Test
+	public void adaptivePollingIsLimited() {
+		AdaptivePolling slow = new AdaptivePolling(100, 1000);
+		slow.waitingIsFinished(60000);
+		Assert.assertEquals(slow.getInterval(1), 1000);
+
+		AdaptivePolling fast = new AdaptivePolling(100, 1000);
+		fast.waitingIsFinished(50);
+		Assert.assertEquals(fast.getInterval(1), 100);
+	}
+
+	@Test
+	public void copiesDontShareTheState() {
+		AdaptivePolling strategy = new AdaptivePolling(100, 1000);
+		strategy.waitingIsFinished(4000);
+		PollingStrategy copy = strategy.copy();
+		Assert.assertNotSame(copy, strategy);
+		Assert.assertEquals(copy.getInterval(1), 100);
+
+		copy.waitingIsFinished(1000);
+		Assert.assertEquals(strategy.getInterval(1), 800);
+		Assert.assertEquals(copy.getInterval(1), 200);
+	}
+
+	@Test
+	public void jitteredCopyOfAdaptivePollingIsNew() {
+		AdaptivePolling adaptive = new AdaptivePolling(100, 1000);
+		PollingStrategy strategy = new JitteredPolling(adaptive, 0);
+		strategy.waitingIsFinished(4000);
+		PollingStrategy copy = strategy.copy();
+		Assert.assertNotSame(copy, strategy);
+		Assert.assertEquals(copy.getInterval(1), 100);
+		Assert.assertEquals(strategy.getInterval(1), 800);
+	}
+
+	@Test
+	public void statelessStrategiesAreNotCopied() {
+		PollingStrategy fixed = new FixedPolling(100);
+		PollingStrategy exponential = new ExponentialPolling(100, 1000, 2);
+		PollingStrategy jittered = new JitteredPolling(exponential, 0.5f);
+		Assert.assertSame(fixed.copy(), fixed);
+		Assert.assertSame(exponential.copy(), exponential);
+		Assert.assertSame(jittered.copy(), jittered);
+	}
+
+	@Test
+	public void eachSleeperCountsItsOwnAttempts() throws InterruptedException {
+		ExponentialPolling strategy = new ExponentialPolling(1, 1000, 2);
+		int[] attempts = new int[1];
+		PollingStrategy counting = new PollingStrategy() {
+			@Override
+			protected long getDelay(int attempt) {
+				attempts[0] = attempt;
+				return strategy.getDelay(attempt);
+			}
+		};
+		counting.getSleeper().sleep(null);
+		counting.getSleeper().sleep(null);
+		Assert.assertEquals(attempts[0], 1);
+	}
+
+	@Test
+	public void enumCreatesConfiguredStrategies() {
+		Assert.assertEquals(EPollingStrategies.FIXED.get(100, 1000)
+				.getInterval(5), 100);
+		Assert.assertEquals(EPollingStrategies.EXPONENTIAL.get(100, 1000)
+				.getInterval(2), 200);
+		Assert.assertTrue(EPollingStrategies.JITTERED.get(100, 1000) instanceof JitteredPolling);
+		Assert.assertTrue(EPollingStrategies.ADAPTIVE.get(100, 1000) instanceof AdaptivePolling);
+	}
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
+import com.github.arachnidium.util.logging.FlightRecorder;
 import com.github.arachnidium.util.logging.ILogConverter;
 import com.github.arachnidium.util.logging.Log;
 import com.github.arachnidium.util.logging.LogRecWithAttach;
@@ -75,7 +76,14 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 		}
 	}
 
+	// records which are kept by FlightRecorder are published if the test
+	// is failed and they are forgotten if it is passed
 	public void testFinished(TestOutcome result) {
+		if ((result.getResult() == TestResult.FAILURE)
+				|| (result.getResult() == TestResult.ERROR))
+			FlightRecorder.dump();
+		else
+			FlightRecorder.discard();
 		sync(result);
 		super.testFinished(result);
 	}
@@ -93,10 +101,12 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	}
 
 	public void stepFailed(StepFailure failure) {
+		FlightRecorder.dump();
 		super.stepFailed(failure);
 	}
 
 	public void lastStepFailed(StepFailure failure) {
+		FlightRecorder.dump();
 		super.stepFailed(failure);
 	}
 
@@ -122,6 +132,7 @@ public class ArachnidiumAndThucydidesStepListener extends BaseStepListener imple
 	}
 
 	public void testFailed(TestOutcome testOutcome, Throwable cause) {
+		FlightRecorder.dump();
 		sync(testOutcome);
 		super.testFailed(testOutcome, cause);
 	}
@@ -10,7 +10,9 @@ import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
 class HelperInterceptor implements MethodInterceptor {
-	private final List<Method> CURRENT_STACK = new ArrayList<Method>();
+	// helpers are shared by threads, so each thread has its own stack
+	private final ThreadLocal<List<Method>> CURRENT_STACK = ThreadLocal
+			.withInitial(() -> new ArrayList<Method>());
 	private static final Class<?>[] EMPTY_PARAMS = new Class<?>[] {};
 	private static final Method GET_SETTING = findGetSettingMethod();
 	
@@ -24,9 +26,9 @@ class HelperInterceptor implements MethodInterceptor {
 		}
 	}
 
-	private String getSettingAnnotationVlue(int upperIndexToStart){
+	private String getSettingAnnotationVlue(List<Method> currentStack, int upperIndexToStart){
 		for (int i = upperIndexToStart; i >= 0; i--){
-			Method m = CURRENT_STACK.get(i);
+			Method m = currentStack.get(i);
 			if (!m.isAnnotationPresent(Setting.class)){
 				continue;
 			}
@@ -45,19 +47,20 @@ class HelperInterceptor implements MethodInterceptor {
 	public Object intercept(Object obj, Method method, Object[] args,
 			MethodProxy proxy) throws Throwable {
 
-		CURRENT_STACK.add(method);
+		List<Method> currentStack = CURRENT_STACK.get();
+		currentStack.add(method);
 		try{
 			if (!method.equals(GET_SETTING)){
 				return proxy.invokeSuper(obj, args);
 			}
-			String setting = getSettingAnnotationVlue(CURRENT_STACK.size() - 1);
+			String setting = getSettingAnnotationVlue(currentStack, currentStack.size() - 1);
 			if (setting == null){
 				return proxy.invokeSuper(obj, args);
 			}
 			return ((AbstractConfigurationAccessHelper) obj).getSettingValue(setting);			
 		}
 		finally{
-			CURRENT_STACK.remove(CURRENT_STACK.size() - 1);
+			currentStack.remove(currentStack.size() - 1);
 		}
 	}
 
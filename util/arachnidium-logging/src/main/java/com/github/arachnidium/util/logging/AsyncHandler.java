@@ -0,0 +1,304 @@
+package com.github.arachnidium.util.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} which publishes records by another {@link Handler}
+ * in background. So the logging thread doesn't format records and
+ * doesn't wait for the output. Records of all instances are put into
+ * the one bounded queue and they are published by the one writer thread.
+ * The writer takes records by batches and flushes each {@link Handler}
+ * once per batch.<br/>
+ * <br/>
+ * The queue is specified by properties of the logging configuration:<br/>
+ * <code>com.github.arachnidium.util.logging.AsyncHandler.queueSize</code>
+ * - the number of records which can wait for the publishing. It is 8192
+ * by default<br/>
+ * <code>com.github.arachnidium.util.logging.AsyncHandler.overflowPolicy</code>
+ * - what happens when the queue is full. BLOCK - the logging thread waits
+ * for the free place, DROP - the record is dropped and the number of
+ * dropped records is reported later. It is BLOCK by default<br/>
+ * <br/>
+ * Records which are not published yet are published when the JVM
+ * is shut down.
+ */
+public class AsyncHandler extends Handler {
+	private final static String PROPERTY_PREFIX = AsyncHandler.class
+			.getName();
+	private final static int DEFAULT_QUEUE_SIZE = 8192;
+	private final static String DROP_POLICY = "DROP";
+	// the number of records which are published before
+	// handlers are flushed
+	private final static int BATCH_SIZE = 256;
+	// how long records are waited for by flush() and by the shutdown
+	private final static long FLUSH_TIME_OUT = TimeUnit.SECONDS.toNanos(30);
+	private final static long PARK_TIME = TimeUnit.MILLISECONDS.toNanos(1);
+	private final static long IDLE_PARK_TIME = TimeUnit.SECONDS.toNanos(1);
+
+	private final static int queueSize = getQueueSize();
+	private final static boolean toDrop = DROP_POLICY
+			.equalsIgnoreCase(LogManager.getLogManager().getProperty(
+					PROPERTY_PREFIX + ".overflowPolicy"));
+
+	private final static ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<Entry>();
+	private final static AtomicInteger queued = new AtomicInteger();
+	private final static AtomicLong posted = new AtomicLong();
+	private final static AtomicLong published = new AtomicLong();
+	private final static AtomicLong dropped = new AtomicLong();
+	private final static AtomicBoolean isWriterParked = new AtomicBoolean();
+	private static volatile Thread writer;
+
+	static {
+		Runtime.getRuntime().addShutdownHook(
+				new Thread(() -> awaitPublishing(posted.get())));
+	}
+
+	private final Handler target;
+
+	/**
+	 * The record and the handler which should publish it
+	 */
+	private static class Entry {
+		private final AsyncHandler handler;
+		private final LogRecord record;
+
+		private Entry(AsyncHandler handler, LogRecord record) {
+			this.handler = handler;
+			this.record = record;
+		}
+	}
+
+	/**
+	 * @param target is the {@link Handler} which publishes records
+	 * in background
+	 */
+	public AsyncHandler(Handler target) {
+		this.target = target;
+		super.setLevel(target.getLevel());
+	}
+
+	private static int getQueueSize() {
+		String value = LogManager.getLogManager().getProperty(
+				PROPERTY_PREFIX + ".queueSize");
+		if (value == null)
+			return DEFAULT_QUEUE_SIZE;
+		try {
+			return Math.max(1, Integer.parseInt(value.trim()));
+		} catch (NumberFormatException e) {
+			return DEFAULT_QUEUE_SIZE;
+		}
+	}
+
+	/**
+	 * @return the {@link Handler} which publishes records in background
+	 */
+	Handler getTarget() {
+		return target;
+	}
+
+	// ErrorManager accepts only exceptions
+	private static Exception toException(Throwable t) {
+		if (t instanceof Exception)
+			return (Exception) t;
+		return new Exception(t);
+	}
+
+	private void publishByTarget(LogRecord record) {
+		try {
+			target.publish(record);
+		} catch (Throwable e) { // the writer thread shouldn't be stopped
+			reportError(null, toException(e), ErrorManager.WRITE_FAILURE);
+		}
+	}
+
+	private void flushTarget() {
+		try {
+			target.flush();
+		} catch (Throwable e) { // the writer thread shouldn't be stopped
+			reportError(null, toException(e), ErrorManager.FLUSH_FAILURE);
+		}
+	}
+
+	private static synchronized void startWriter() {
+		if (writer != null)
+			return;
+		Thread thread = new Thread(AsyncHandler::writeUntilStopped,
+				"arachnidium-log-writer");
+		thread.setDaemon(true);
+		writer = thread;
+		thread.start();
+	}
+
+	private static void wakeWriter() {
+		Thread writer = AsyncHandler.writer;
+		if (writer == null)
+			startWriter();
+		else if (isWriterParked.compareAndSet(true, false))
+			LockSupport.unpark(writer);
+	}
+
+	private static void post(Entry entry) {
+		while (true) {
+			int size = queued.get();
+			if (size < queueSize) {
+				if (queued.compareAndSet(size, size + 1))
+					break;
+				continue;
+			}
+			if (toDrop) {
+				dropped.incrementAndGet();
+				return;
+			}
+			wakeWriter();
+			LockSupport.parkNanos(PARK_TIME);
+		}
+		queue.offer(entry);
+		posted.incrementAndGet();
+		wakeWriter();
+	}
+
+	// if the writer is stopped by something unexpected then the new
+	// writer is started by the next record or by the waiting thread
+	private static void writeUntilStopped() {
+		try {
+			write();
+		} finally {
+			synchronized (AsyncHandler.class) {
+				writer = null;
+			}
+			isWriterParked.set(false);
+		}
+	}
+
+	private static void write() {
+		List<AsyncHandler> handlers = new ArrayList<AsyncHandler>();
+		while (true) {
+			Entry entry = queue.poll();
+			if (entry == null) {
+				isWriterParked.set(true);
+				// the record may be posted before the writer is parked
+				if (queue.isEmpty())
+					LockSupport.parkNanos(IDLE_PARK_TIME);
+				isWriterParked.set(false);
+				continue;
+			}
+			int count = 0;
+			handlers.clear();
+			while (entry != null) {
+				queued.decrementAndGet();
+				entry.handler.publishByTarget(entry.record);
+				if (!handlers.contains(entry.handler))
+					handlers.add(entry.handler);
+				if (++count >= BATCH_SIZE)
+					break;
+				entry = queue.poll();
+			}
+			reportDropped(handlers);
+			handlers.forEach(AsyncHandler::flushTarget);
+			published.addAndGet(count);
+		}
+	}
+
+	private static void reportDropped(List<AsyncHandler> handlers) {
+		long count = dropped.getAndSet(0);
+		if (count == 0)
+			return;
+		LogRecord record = new LogRecord(Level.WARNING, count
+				+ " log records have been dropped because there were too many records waiting for the publishing");
+		handlers.forEach(handler -> handler.publishByTarget(record));
+	}
+
+	// returns false if records were not published during the time out
+	private static boolean awaitPublishing(long count) {
+		if (Thread.currentThread() == writer)
+			return true;
+		long deadline = System.nanoTime() + FLUSH_TIME_OUT;
+		while (published.get() < count) {
+			if (System.nanoTime() - deadline > 0)
+				return false;
+			wakeWriter();
+			LockSupport.parkNanos(PARK_TIME);
+		}
+		return true;
+	}
+
+	/**
+	 * Puts the record into the queue. If it is invoked by
+	 * the writer thread then the record is published immediately.
+	 *
+	 * @see java.util.logging.Handler#publish(java.util.logging.LogRecord)
+	 */
+	@Override
+	public void publish(LogRecord record) {
+		if (!isLoggable(record))
+			return;
+		if (Thread.currentThread() == writer) {
+			publishByTarget(record);
+			return;
+		}
+		// records of other loggers find their source by the stack
+		// of the current thread. LogRecWithAttach doesn't need it
+		if (!(record instanceof LogRecWithAttach))
+			record.getSourceClassName();
+		post(new Entry(this, record));
+	}
+
+	/**
+	 * Waits until records which have been published before are written
+	 * by the target {@link Handler}
+	 *
+	 * @see java.util.logging.Handler#flush()
+	 */
+	@Override
+	public void flush() {
+		if (!awaitPublishing(posted.get()))
+			reportError("Log records were not published during the time out",
+					null, ErrorManager.FLUSH_FAILURE);
+		flushTarget();
+	}
+
+	/**
+	 * @see java.util.logging.Handler#close()
+	 */
+	@Override
+	public void close() throws SecurityException {
+		flush();
+		target.close();
+	}
+
+	/**
+	 * The target {@link Handler} gets the same {@link Formatter}
+	 *
+	 * @see java.util.logging.Handler#setFormatter(java.util.logging.Formatter)
+	 */
+	@Override
+	public synchronized void setFormatter(Formatter newFormatter)
+			throws SecurityException {
+		super.setFormatter(newFormatter);
+		target.setFormatter(newFormatter);
+	}
+
+	/**
+	 * The target {@link Handler} gets the same {@link Level}
+	 *
+	 * @see java.util.logging.Handler#setLevel(java.util.logging.Level)
+	 */
+	@Override
+	public synchronized void setLevel(Level newLevel) throws SecurityException {
+		super.setLevel(newLevel);
+		target.setLevel(newLevel);
+	}
+}
@@ -0,0 +1,183 @@
+package com.github.arachnidium.util.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the last log records of the current thread in memory instead of
+ * publishing them. Screenshots of kept records are kept as PNG bytes and
+ * snapshots of the page source are kept compressed. Nothing is published
+ * and nothing is written to disk until the record of the given (or more
+ * severe) level is logged or {@link #dump()} is invoked. So kept records
+ * are published when something goes wrong and they are forgotten by
+ * {@link #discard()} when the test is passed. If there are more records
+ * than the given number then the oldest record is forgotten.<br/>
+ * <br/>
+ * Records are kept for each thread separately and the recorder is set up
+ * for each thread separately. It is supposed that each session is used by
+ * its own thread. The recorder is turned off by default, so records of
+ * threads which were not set up (background writers etc.) are published
+ * immediately. Kept records are also forgotten when the session is reset
+ * or returned to the pool, so the next test doesn't publish them.
+ */
+public final class FlightRecorder {
+
+	/**
+	 * Settings and kept records of the one thread
+	 */
+	private static class Recording {
+		private int capacity;
+		private eAvailableLevels dumpLevel = eAvailableLevels.SEVERE;
+		// kept records may be left after the recorder is turned off
+		private boolean wasTurnedOn;
+		private final ArrayDeque<LogRecWithAttach> records = new ArrayDeque<LogRecWithAttach>();
+	}
+
+	private static final ThreadLocal<Recording> recordings = new ThreadLocal<Recording>() {
+		@Override
+		protected Recording initialValue() {
+			return new Recording();
+		}
+	};
+
+	private FlightRecorder() {
+		super();
+	}
+
+	/**
+	 * Turns on/off the recording for the current thread. Other threads
+	 * are not affected
+	 *
+	 * @param capacity is the number of records which are kept for the
+	 * current thread. If it is 0 or less then records are published immediately
+	 * @param dumpLevel is the level of the record that makes kept records
+	 * published
+	 */
+	public static void setUp(int capacity, eAvailableLevels dumpLevel) {
+		Recording recording = recordings.get();
+		recording.dumpLevel = dumpLevel;
+		recording.capacity = capacity;
+		if (capacity > 0)
+			recording.wasTurnedOn = true;
+	}
+
+	/**
+	 * @param level is a level of the record
+	 * @return <code>true</code> if the record of the given level
+	 * is going to be kept in memory by the current thread
+	 */
+	public static boolean isKept(eAvailableLevels level) {
+		return isKept(recordings.get(), level.getLevel());
+	}
+
+	private static boolean isKept(Recording recording, Level level) {
+		return recording.capacity > 0
+				&& level.intValue() < recording.dumpLevel.getLevel().intValue();
+	}
+
+	/**
+	 * Publishes records which are kept for the current thread. Screenshots
+	 * and page sources of these records are written to disk.
+	 * It should be invoked when the test is failed.
+	 */
+	public static void dump() {
+		ArrayDeque<LogRecWithAttach> kept = recordings.get().records;
+		LogRecWithAttach rec;
+		while ((rec = kept.pollFirst()) != null)
+			publish(rec);
+	}
+
+	/**
+	 * Forgets records which are kept for the current thread.
+	 * It should be invoked when the test is passed.
+	 */
+	public static void discard() {
+		recordings.get().records.clear();
+	}
+
+	// the record is kept if the recorder of the current thread is on and
+	// the level of the record is less than the dump level. Otherwise kept
+	// records are published. It returns false if the given record should
+	// be published by the caller
+	static boolean record(LogRecWithAttach rec) {
+		Recording recording = recordings.get();
+		if (isKept(recording, rec.getLevel())) {
+			ArrayDeque<LogRecWithAttach> kept = recording.records;
+			kept.addLast(rec);
+			while (kept.size() > recording.capacity)
+				kept.pollFirst();
+			return true;
+		}
+		if (recording.wasTurnedOn)
+			dump();
+		if (!rec.isRetained())
+			return false;
+		publish(rec);
+		return true;
+	}
+
+	private static void publish(LogRecWithAttach rec) {
+		LogRecWithAttach pageSourceRec = release(rec);
+		Log.publish(rec);
+		if (pageSourceRec != null)
+			Log.publish(pageSourceRec);
+	}
+
+	// kept screenshot and page source are given to the writer. The record
+	// with the attached page source is returned if there is a page source
+	private static LogRecWithAttach release(LogRecWithAttach rec) {
+		if (!rec.isRetained())
+			return null;
+		byte[] picture = rec.getRetainedPicture();
+		byte[] pageSource = rec.getRetainedPageSource();
+		rec.retain(null, null);
+		if (picture != null)
+			rec.setAttachment(Photographer.writeInBackground(picture));
+		if (pageSource == null)
+			return null;
+		LogRecWithAttach pageSourceRec = new LogRecWithAttach(rec.getLevel(),
+				"Page source. " + rec.getMessage());
+		pageSourceRec.setMillis(rec.getMillis());
+		pageSourceRec.setThreadID(rec.getThreadID());
+		pageSourceRec.setSourceClassName(rec.getSourceClassName());
+		pageSourceRec.setSourceMethodName(rec.getSourceMethodName());
+		pageSourceRec.setAttachment(Photographer
+				.writePageSourceInBackground(decompress(pageSource)));
+		return pageSourceRec;
+	}
+
+	/**
+	 * @param pageSource is a page source
+	 * @return compressed page source
+	 */
+	static byte[] compress(String pageSource) {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(result)) {
+			gzip.write(pageSource.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result.toByteArray();
+	}
+
+	private static byte[] decompress(byte[] compressed) {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try (GZIPInputStream gzip = new GZIPInputStream(
+				new ByteArrayInputStream(compressed))) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = gzip.read(buffer)) > 0)
+				result.write(buffer, 0, read);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result.toByteArray();
+	}
+}
@@ -19,19 +19,25 @@ package com.github.arachnidium.util.logging;
 
 import java.io.File;
 import java.lang.reflect.Constructor;
-import java.util.Calendar;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
 
 public class Log {
 	
-	private static void addConverter(Handler handler, 
+	private static synchronized void addConverter(Handler handler, 
 			ILogConverter converter){
 		handler.setFormatter(new DefaultFormatter(converter));
+		if (asynchronous)
+			handler = new AsyncHandler(handler);
 		getAnonymousLogger().addHandler(handler);		
+		minimumHandlerLevel = null;
 	}
 	
 	private static void addConverter(Class<? extends Handler> classOfHandler, 
@@ -57,7 +63,8 @@ public class Log {
      * implementor
      */
 	public static void addConverter(ILogConverter converter) {
-		ConsoleHandler consoleHandler = new ConsoleHandler();
+		Handler consoleHandler = asynchronous ? new BufferedConsoleHandler()
+				: new ConsoleHandler();
 		consoleHandler.setLevel(getLevel());
 		addConverter(consoleHandler, converter);
 	}
@@ -96,11 +103,31 @@ public class Log {
 	}	
 	
 
+	// rec is null if the message is filtered out
 	private static void applyLogRec(LogRecWithAttach rec) {
+		if (rec == null)
+			return;
+		if (FlightRecorder.record(rec))
+			return;
+		publish(rec);
+	}
+
+	// the record is published immediately
+	static void publish(LogRecWithAttach rec) {
 		getAnonymousLogger().log(rec);
 	}
 
+	// the message is published immediately even if the current thread
+	// keeps records (see FlightRecorder)
+	static void publish(eAvailableLevels level, String msg) {
+		LogRecWithAttach rec = getRecordForLog(level, msg);
+		if (rec != null)
+			publish(rec);
+	}
+
 	private static void applyLogRec(LogRecWithAttach rec, File attached) {
+		if (rec == null)
+			return;
 		rec.setAttachment(attached);
 		applyLogRec(rec);
 	}
@@ -149,6 +176,29 @@ public class Log {
 				attached);
 	}
 
+	/**
+	 * Creates a log message with FINE {@link Level}. The message
+	 * text is created only if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 */
+	public static void debug(Supplier<String> msgSupplier) {
+		applyLogRec(getRecordForLog(eAvailableLevels.FINE, msgSupplier));
+	}
+
+	/**
+	 * Creates a log message with FINE {@link Level} and
+	 * throwable instance. The message text is created only
+	 * if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 * @param t Some {@link Throwable}
+	 */
+	public static void debug(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.FINE, msgSupplier),
+				t));
+	}
+
 	/**
 	 * Creates a log message with SEVERE {@link Level}
 	 * 
@@ -194,6 +244,29 @@ public class Log {
 				attached);
 	}
 
+	/**
+	 * Creates a log message with SEVERE {@link Level}. The message
+	 * text is created only if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 */
+	public static void error(Supplier<String> msgSupplier) {
+		applyLogRec(getRecordForLog(eAvailableLevels.SEVERE, msgSupplier));
+	}
+
+	/**
+	 * Creates a log message with SEVERE {@link Level} and
+	 * throwable instance. The message text is created only
+	 * if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 * @param t Some {@link Throwable}
+	 */
+	public static void error(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.SEVERE, msgSupplier),
+				t));
+	}
+
 	/**
 	 * Gets current {@link Level}
 	 * 
@@ -203,17 +276,115 @@ public class Log {
 		return getAnonymousLogger().getLevel();
 	}
 
-	// new log record is formed here
+	/**
+	 * Checks whether a message with the given level is going to
+	 * be published. It is useful when the message is expensive to create.
+	 * 
+	 * Levels of handlers are read once. They are read again when a converter
+	 * is added, the asynchronous publishing is turned on/off or the log
+	 * level is reset. So if handlers of the root logger are changed
+	 * directly then <code>resetLogLevel</code> should be invoked.
+	 * 
+	 * @param level is a level of the message
+	 * @return <code>true</code> if the message is not filtered out
+	 * by the current {@link Level} and there is a {@link Handler} that accepts it
+	 */
+	public static boolean isLoggable(eAvailableLevels level) {
+		Level required = level.getLevel();
+		if (!getAnonymousLogger().isLoggable(required))
+			return false;
+		return getMinimumHandlerLevel() <= required.intValue();
+	}
+
+	// the lowest level which is accepted by some handler of the root logger
+	private static int getMinimumHandlerLevel() {
+		Integer minimum = minimumHandlerLevel;
+		if (minimum != null)
+			return minimum;
+		synchronized (Log.class) {
+			minimum = minimumHandlerLevel;
+			if (minimum != null)
+				return minimum;
+			minimum = Level.OFF.intValue();
+			for (Handler handler : getAnonymousLogger().getHandlers())
+				minimum = Math.min(minimum, handler.getLevel().intValue());
+			minimumHandlerLevel = minimum;
+			return minimum;
+		}
+	}
+
+	/**
+	 * Turns on/off the asynchronous publishing of log messages. If it is
+	 * turned on then each {@link Handler} of the root logger and each
+	 * {@link Handler} which is added by <code>addConverter</code> is wrapped
+	 * by {@link AsyncHandler}. So messages are formatted and converted by
+	 * the background thread. It is turned off by default. The default value
+	 * can be changed by the <code>com.github.arachnidium.util.logging.Log.async</code>
+	 * property of the logging configuration
+	 * 
+	 * @param asynchronous <code>true</code> if log messages should be
+	 * published in background
+	 */
+	public static synchronized void setAsynchronous(boolean asynchronous) {
+		Log.asynchronous = asynchronous;
+		Logger logger = getAnonymousLogger();
+		for (Handler handler : logger.getHandlers()) {
+			if (asynchronous && !(handler instanceof AsyncHandler)) {
+				logger.removeHandler(handler);
+				logger.addHandler(new AsyncHandler(handler));
+			}
+			if (!asynchronous && handler instanceof AsyncHandler) {
+				handler.flush();
+				logger.removeHandler(handler);
+				logger.addHandler(((AsyncHandler) handler).getTarget());
+			}
+		}
+		minimumHandlerLevel = null;
+	}
+
+	/**
+	 * Turns on/off the detection of the class and the method which create
+	 * log messages. It is turned on by default. The default value can be
+	 * changed by the <code>com.github.arachnidium.util.logging.Log.inferCaller</code>
+	 * property of the logging configuration
+	 * 
+	 * @param inferCaller <code>false</code> if log messages should not know
+	 * their source class and method
+	 */
+	public static void setCallerInference(boolean inferCaller) {
+		Log.inferCaller = inferCaller;
+	}
+
+	// new log record is formed here. It returns null
+	// if the message is filtered out
+	private static LogRecWithAttach getRecordForLog(eAvailableLevels level,
+			String msg) {
+		if (!isLoggable(level))
+			return null;
+		return createRecord(level, msg);
+	}
+
+	// the message is created only if it is not filtered out
 	private static LogRecWithAttach getRecordForLog(eAvailableLevels level,
+			Supplier<String> msgSupplier) {
+		if (!isLoggable(level))
+			return null;
+		return createRecord(level, msgSupplier.get());
+	}
+
+	private static LogRecWithAttach createRecord(eAvailableLevels level,
 			String msg) {
-		StackTraceElement stack[] = Thread.currentThread().getStackTrace();
-		StackTraceElement element = stack[levelUp];
+		// the time of the record is taken by LogRecord
 		LogRecWithAttach rec = new LogRecWithAttach(level.getLevel(), msg);
-		rec.setSourceClassName(element.getClassName());
-		rec.setSourceMethodName(element.getMethodName());
-		rec.setMillis(Calendar.getInstance().getTimeInMillis());
 		rec.setThreadID((int) Thread.currentThread().getId());
-		rec.setLevel(level.getLevel());
+		if (inferCaller)
+			// the stack trace is decoded only if the source
+			// class or method is required
+			rec.setCallSite(new Throwable(), levelUp);
+		else {
+			rec.setSourceClassName(null);
+			rec.setSourceMethodName(null);
+		}
 		return rec;
 	}
 
@@ -237,6 +408,27 @@ public class Log {
 		applyLogRec(getRecordForLog(level, msg), attached);
 	}
 
+	// the file is attached while it is being written
+	static void log(eAvailableLevels level, String msg,
+			Future<File> pendingAttachment) {
+		LogRecWithAttach rec = getRecordForLog(level, msg);
+		if (rec == null)
+			return;
+		rec.setAttachment(pendingAttachment);
+		applyLogRec(rec);
+	}
+
+	// the screenshot and the page source are kept in memory
+	// by FlightRecorder
+	static void log(eAvailableLevels level, String msg,
+			byte[] retainedPicture, byte[] retainedPageSource) {
+		LogRecWithAttach rec = getRecordForLog(level, msg);
+		if (rec == null)
+			return;
+		rec.retain(retainedPicture, retainedPageSource);
+		applyLogRec(rec);
+	}
+
     /**
      * Creates a log message with available {@link Level} and
      * throwable instance
@@ -261,6 +453,29 @@ public class Log {
 		applyLogRec(setThrown(getRecordForLog(level, msg), t), attached);
 	}
 
+	/**
+	 * Creates a log message with available {@link Level}. The message
+	 * text is created only if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 */
+	public static void log(eAvailableLevels level, Supplier<String> msgSupplier) {
+		applyLogRec(getRecordForLog(level, msgSupplier));
+	}
+
+	/**
+	 * Creates a log message with available {@link Level} and
+	 * throwable instance. The message text is created only
+	 * if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 * @param t Some {@link Throwable}
+	 */
+	public static void log(eAvailableLevels level,
+			Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(setThrown(getRecordForLog(level, msgSupplier), t));
+	}
+
 	/**
 	 * Creates a log message with INFO {@link Level}
 	 * 
@@ -306,17 +521,42 @@ public class Log {
 	}
 
 	/**
-	 * changes current log {@link Level}
+	 * Creates a log message with INFO {@link Level}. The message
+	 * text is created only if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 */
+	public static void message(Supplier<String> msgSupplier) {
+		applyLogRec(getRecordForLog(eAvailableLevels.INFO, msgSupplier));
+	}
+
+	/**
+	 * Creates a log message with INFO {@link Level} and
+	 * throwable instance. The message text is created only
+	 * if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 * @param t Some {@link Throwable}
+	 */
+	public static void message(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.INFO, msgSupplier),
+				t));
+	}
+
+	/**
+	 * changes current log {@link Level}. Levels of handlers are read again
 	 * @param level
 	 * @return new current {@link Level}
 	 */
-	public static void resetLogLevel(Level level) {
-		if (level == null)
+	public static synchronized void resetLogLevel(Level level) {
+		if (level != null)
 			getAnonymousLogger().setLevel(level);
+		minimumHandlerLevel = null;
 	}
 
 	private static LogRecWithAttach setThrown(LogRecWithAttach rec, Throwable t) {
-		rec.setThrown(t);
+		if (rec != null)
+			rec.setThrown(t);
 		return rec;
 	}
 
@@ -364,17 +604,65 @@ public class Log {
 				attached);
 	}
 
+	/**
+	 * Creates a log message with WARNING {@link Level}. The message
+	 * text is created only if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 */
+	public static void warning(Supplier<String> msgSupplier) {
+		applyLogRec(getRecordForLog(eAvailableLevels.WARN, msgSupplier));
+	}
+
+	/**
+	 * Creates a log message with WARNING {@link Level} and
+	 * throwable instance. The message text is created only
+	 * if the message is not filtered out
+	 * 
+	 * @param msgSupplier creates message text
+	 * @param t Some {@link Throwable}
+	 */
+	public static void warning(Supplier<String> msgSupplier, Throwable t) {
+		applyLogRec(setThrown(getRecordForLog(eAvailableLevels.WARN, msgSupplier),
+				t));
+	}
+
+	// createRecord() <- getRecordForLog() <- Log.debug() etc. <- the caller
 	private final static int levelUp = 3;
 	
 	private final static Level commonLevel = Level.INFO;	
 	private static final  LogManager LOG_MANAGER = LogManager.getLogManager();
+	private static volatile boolean asynchronous;
+	// see getMinimumHandlerLevel(). It is null when it should be read again
+	private static volatile Integer minimumHandlerLevel;
+	private static volatile boolean inferCaller = !Boolean.FALSE.toString()
+			.equalsIgnoreCase(LOG_MANAGER.getProperty(Log.class.getName()
+					+ ".inferCaller"));
 	
 	private static Logger getAnonymousLogger(){
 		return LOG_MANAGER.getLogger("");
 	}
 	
+	/**
+	 * Writes to System.err like {@link ConsoleHandler} but it doesn't
+	 * flush each record. {@link AsyncHandler} flushes it after each batch
+	 */
+	private static class BufferedConsoleHandler extends StreamHandler {
+		private BufferedConsoleHandler() {
+			super(System.err, new SimpleFormatter());
+		}
+
+		@Override
+		public void close() {
+			flush();
+		}
+	}
+
 	static {
 		if (LOG_MANAGER.getProperty(".level") == null)
 			getAnonymousLogger().setLevel(commonLevel);
+		if (Boolean.TRUE.toString().equalsIgnoreCase(
+				LOG_MANAGER.getProperty(Log.class.getName() + ".async")))
+			setAsynchronous(true);
 	}
 }
@@ -1,6 +1,10 @@
 package com.github.arachnidium.util.logging;
 
 import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -9,19 +13,104 @@ import java.util.logging.LogRecord;
  */
 public class LogRecWithAttach extends LogRecord{
 	private File attached;
+	// the attached file may be still being written
+	private transient Future<File> pendingAttachment;
+	// the source class and method are taken from this stack trace
+	// when they are required for the first time
+	private transient Throwable callSite;
+	private transient int callerDepth;
+	// the screenshot and the compressed page source which are kept
+	// in memory by FlightRecorder. They are written when the record
+	// is published
+	private transient byte[] retainedPicture;
+	private transient byte[] retainedPageSource;
 
 	private static final long serialVersionUID = 1L;
+	// the time to wait for the writing of the attached file (seconds)
+	private static final long ATTACHMENT_TIME_OUT = 30;
 
 	public LogRecWithAttach(Level level, String msg) {
 		super(level, msg);
 	}
 
 	/**
-	 * Gets attached file
-	 * @return {@link File} which was attached to message
+	 * Gets attached file. If the file is still being written
+	 * then it waits for the end of the writing but not longer
+	 * than {@link #ATTACHMENT_TIME_OUT} seconds
+	 * @return {@link File} which was attached to message or
+	 * <code>null</code> if the file couldn't be written in time
 	 */
 	public File getAttachedFile() {
-		return attached;
+		Future<File> pendingAttachment = this.pendingAttachment;
+		if (pendingAttachment == null)
+			return attached;
+		try {
+			return pendingAttachment.get(ATTACHMENT_TIME_OUT, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException | TimeoutException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the attached file is completely
+	 * written or there is no attached file
+	 */
+	public boolean isAttachmentReady() {
+		Future<File> pendingAttachment = this.pendingAttachment;
+		return pendingAttachment == null || pendingAttachment.isDone();
+	}
+
+	/**
+	 * Sets the stack trace where the source class and method can be found.
+	 * It is decoded only if the source class or method is required
+	 * @param callSite is a {@link Throwable} created by the logging method
+	 * @param callerDepth is the index of the caller frame
+	 */
+	void setCallSite(Throwable callSite, int callerDepth) {
+		this.callSite = callSite;
+		this.callerDepth = callerDepth;
+	}
+
+	private synchronized void inferCaller() {
+		Throwable callSite = this.callSite;
+		if (callSite == null)
+			return;
+		this.callSite = null;
+		StackTraceElement[] stack = callSite.getStackTrace();
+		if (stack.length <= callerDepth) {
+			super.setSourceClassName(null);
+			super.setSourceMethodName(null);
+			return;
+		}
+		super.setSourceClassName(stack[callerDepth].getClassName());
+		super.setSourceMethodName(stack[callerDepth].getMethodName());
+	}
+
+	@Override
+	public String getSourceClassName() {
+		inferCaller();
+		return super.getSourceClassName();
+	}
+
+	@Override
+	public void setSourceClassName(String sourceClassName) {
+		inferCaller();
+		super.setSourceClassName(sourceClassName);
+	}
+
+	@Override
+	public String getSourceMethodName() {
+		inferCaller();
+		return super.getSourceMethodName();
+	}
+
+	@Override
+	public void setSourceMethodName(String sourceMethodName) {
+		inferCaller();
+		super.setSourceMethodName(sourceMethodName);
 	}
 
 	/**
@@ -32,4 +121,39 @@ public class LogRecWithAttach extends LogRecord{
 		this.attached = attached;
 	}
 
+	/**
+	 * Keeps the screenshot and the page source in memory
+	 * @param retainedPicture is PNG bytes
+	 * @param retainedPageSource is the compressed page source
+	 */
+	void retain(byte[] retainedPicture, byte[] retainedPageSource) {
+		this.retainedPicture = retainedPicture;
+		this.retainedPageSource = retainedPageSource;
+	}
+
+	/**
+	 * @return <code>true</code> if the screenshot or the page
+	 * source is kept in memory
+	 */
+	boolean isRetained() {
+		return retainedPicture != null || retainedPageSource != null;
+	}
+
+	byte[] getRetainedPicture() {
+		return retainedPicture;
+	}
+
+	byte[] getRetainedPageSource() {
+		return retainedPageSource;
+	}
+
+	/**
+	 * attaches file which is being written
+	 * @param pendingAttachment is the writing of the file. It
+	 * returns the written file
+	 */
+	void setAttachment(Future<File> pendingAttachment) {
+		this.pendingAttachment = pendingAttachment;
+	}
+
 }
@@ -1,19 +1,33 @@
 package com.github.arachnidium.util.logging;
 
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
-import java.util.UUID;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
-import javax.imageio.ImageIO;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
 /**
- * Takes screenshots by {@link WebDriver} instance
+ * Takes screenshots by {@link WebDriver} instance.
+ * PNG bytes which are received from the driver are written to files
+ * as they are. Files are written by the background thread. Log messages
+ * refer to files which are being written (see {@link LogRecWithAttach#getAttachedFile()}).
+ * The name of the file contains the hash of the picture. So each unique
+ * picture is written only once and identical screenshots refer to the same file.
+ * If the record is kept by {@link FlightRecorder} then the picture and the page
+ * source are kept in memory and they are written only when the record is published
  */
 public final class Photographer {
 	private static Photographer get() {
@@ -44,13 +58,18 @@ public final class Photographer {
 	 */
 	public static void takeAPictureForLog(WebDriver driver,
 			eAvailableLevels LogLevel, String comment) {
+		// the picture is not taken if the message is filtered out
+		if (!Log.isLoggable(LogLevel))
+			return;
 		Photographer photographer = get();
 		try {
-			BufferedImage imageForLog = photographer.takeAPicture(driver);
-			photographer.makeFileForLog(imageForLog, LogLevel, comment);
-		} catch (IOException e) {
-			Log.warning("Can't post a picture to log! " + e.getMessage());
-			Log.log(LogLevel, comment);
+			byte[] imageForLog = photographer.takeAPicture(driver);
+			if (FlightRecorder.isKept(LogLevel))
+				// nothing is written until the kept record is published
+				Log.log(LogLevel, comment, imageForLog,
+						getCompressedPageSource(driver));
+			else
+				photographer.makeFileForLog(imageForLog, LogLevel, comment);
 		} catch (ClassCastException | UnsupportedOperationException e) {
 			Log.debug(
 					"Operation is not supported! Take a screenshot. "
@@ -101,6 +120,8 @@ public final class Photographer {
 	}
 
 	private final static String pictureNameByDefault = "picture";
+	private final static String pageSourceName = "page";
+	private final static String pageSourceFormat = "html";
 
 	// in case if there is no customized settings for picture storing
 	private static String pictureFolderNameByDefault = "Imgs" + File.separator; 
@@ -109,65 +130,138 @@ public final class Photographer {
 
 	private static final ThreadLocal<Photographer> photographerThreadLocal = new ThreadLocal<Photographer>();
 
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	// the number of pictures which can wait for the writing.
+	// If there are more pictures or the writer is shut down
+	// then the thread which has taken the picture writes it
+	private static final int MAX_PENDING_PICTURES = 64;
+	// the time to finish the writing on exit (seconds)
+	private static final long WRITING_TIME_OUT_ON_EXIT = 30;
+
+	private static final ThreadPoolExecutor pictureWriter = new ThreadPoolExecutor(
+			1, 1, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<Runnable>(MAX_PENDING_PICTURES),
+			runnable -> {
+				Thread thread = new Thread(runnable,
+						"arachnidium-picture-writer");
+				thread.setDaemon(true);
+				return thread;
+			}, (runnable, executor) -> runnable.run());
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			pictureWriter.shutdown();
+			try {
+				pictureWriter.awaitTermination(WRITING_TIME_OUT_ON_EXIT,
+						TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}));
+	}
+
 	private String folder = pictureFolderNameByDefault;
 
 	private Photographer() {
 		super();
 	}
 
-	private BufferedImage getBufferedImage(byte[] original) throws IOException {
-		BufferedImage buffer = null;
+	private byte[] getImageFromDriver(WebDriver driver) {
+		return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+	}
+
+	// SHA-256 of the image as a hexadecimal string
+	private static String hash(byte[] imageForLog) {
 		try {
-			buffer = ImageIO.read(new ByteArrayInputStream(original));
-			return buffer;
-		} catch (IOException e) {
-			e.printStackTrace();
-			throw e;
+			byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(
+					imageForLog);
+			StringBuilder result = new StringBuilder(digest.length * 2);
+			for (byte b : digest)
+				result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(
+						Character.forDigit(b & 0xF, 16));
+			return result.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
 		}
 	}
 
-	private BufferedImage getImageFromDriver(WebDriver driver)
-			throws IOException {
-		byte[] bytes = ((TakesScreenshot) driver)
-					.getScreenshotAs(OutputType.BYTES);
-		BufferedImage buffer = getBufferedImage(bytes);
-		return buffer;
+	// the page source is kept by FlightRecorder. It is null
+	// if the driver can't give it
+	private static byte[] getCompressedPageSource(WebDriver driver) {
+		try {
+			String pageSource = driver.getPageSource();
+			if (pageSource == null)
+				return null;
+			return FlightRecorder.compress(pageSource);
+		} catch (RuntimeException e) {
+			Log.debug("Can't get the page source. " + e.getMessage());
+			return null;
+		}
 	}
 
-	// applies images
-	private synchronized void makeFileForLog(BufferedImage imageForLog,
-			eAvailableLevels LogLevel, String comment) {
-
-		if (LogLevel.getLevel().intValue() < Log.getLevel().intValue()){
-			Log.log(LogLevel, comment);
-			return;
-		}
-		
-		String FolderPath = folder;
+	/**
+	 * Writes the screenshot which was kept in memory
+	 * @param imageForLog PNG bytes
+	 * @return the writing of the file
+	 */
+	static Future<File> writeInBackground(byte[] imageForLog) {
+		String folder = get().folder;
+		return pictureWriter.submit(() -> write(imageForLog, folder,
+				pictureNameByDefault, format));
+	}
 
-		File ImgFolder = new File(FolderPath);
-		ImgFolder.mkdirs();
+	/**
+	 * Writes the page source which was kept in memory
+	 * @param pageSource the page source
+	 * @return the writing of the file
+	 */
+	static Future<File> writePageSourceInBackground(byte[] pageSource) {
+		String folder = get().folder;
+		return pictureWriter.submit(() -> write(pageSource, folder,
+				pageSourceName, pageSourceFormat));
+	}
 
-		File picForLog = new File(FolderPath + pictureNameByDefault + '_'
-				+ UUID.randomUUID().toString() + "." + format);
+	// the file is written only if there is no file with the same content.
+	// The file system is checked each time because the file may be removed.
+	// The same content may be written by several threads at the same time.
+	// Each of them writes the temporary file and moves it, so the file
+	// is always complete
+	private static File write(byte[] imageForLog, String folder, String name,
+			String extension) {
+		File picForLog = new File(folder + name + '_' + hash(imageForLog)
+				+ "." + extension);
 		try {
-			ImageIO.write(imageForLog, format, picForLog);
-			Log.log(LogLevel, comment, picForLog);
+			Path picPath = Paths.get(picForLog.getAbsolutePath());
+			if (Files.exists(picPath)) // it was written before
+				return picForLog;
+			Files.createDirectories(picPath.getParent());
+			Path tempPath = Files.createTempFile(picPath.getParent(),
+					name, ".tmp");
+			Files.write(tempPath, imageForLog);
+			Files.move(tempPath, picPath, StandardCopyOption.REPLACE_EXISTING);
 		} catch (IOException e) {
-			Log.warning("Can't take a screenshot! " + e.getMessage());
+			// it may be written by the writer thread or by the thread
+			// which keeps records. The warning shouldn't be kept
+			Log.publish(eAvailableLevels.WARN, "Can't take a screenshot! "
+					+ e.getMessage());
+			throw new UncheckedIOException(e);
 		}
+		return picForLog;
 	}
 
-	// takes pictures and makes buffered images
-	private synchronized BufferedImage takeAPicture(WebDriver driver)
-			throws IOException, 
-			UnsupportedOperationException {
-		try {
-			return getImageFromDriver(driver);
-		} catch (UnsupportedOperationException e) {
-			throw e;
-		} catch (IOException e2) {
-			throw e2;
-		}
+	// applies images
+	private synchronized void makeFileForLog(byte[] imageForLog,
+			eAvailableLevels LogLevel, String comment) {
+		String folder = this.folder;
+		Future<File> pendingAttachment = pictureWriter.submit(() -> write(
+				imageForLog, folder, pictureNameByDefault, format));
+		Log.log(LogLevel, comment, pendingAttachment);
+	}
+
+	// takes pictures
+	private synchronized byte[] takeAPicture(WebDriver driver)
+			throws UnsupportedOperationException {
+		return getImageFromDriver(driver);
 	}
 }
@@ -0,0 +1,245 @@
+package com.github.arachnidium.util.logging;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * The queue size and the overflow policy are read from the logging
+ * configuration when {@link AsyncHandler} is initialized. So each policy
+ * is tested by its own copy of the class which is loaded by the separate
+ * class loader after the configuration is changed.
+ */
+public class AsyncHandlerTest {
+
+	private final static int QUEUE_SIZE = 4;
+	private final static int RECORD_COUNT = 20;
+
+	private Class<?> blockingHandlerClass;
+	private Class<?> droppingHandlerClass;
+
+	/**
+	 * Remembers messages of published records. It can hold the writer
+	 * thread until it is released
+	 */
+	private static class TargetHandler extends Handler {
+		private final List<String> published = Collections
+				.synchronizedList(new ArrayList<String>());
+		private final CountDownLatch firstRecord = new CountDownLatch(1);
+		private final CountDownLatch release;
+
+		private TargetHandler(boolean isHeld) {
+			release = new CountDownLatch(isHeld ? 1 : 0);
+		}
+
+		@Override
+		public void publish(LogRecord record) {
+			firstRecord.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			published.add(record.getMessage());
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private static Class<?> loadHandlerClass(String overflowPolicy)
+			throws Exception {
+		Properties properties = new Properties();
+		properties.setProperty(AsyncHandler.class.getName() + ".queueSize",
+				String.valueOf(QUEUE_SIZE));
+		properties.setProperty(AsyncHandler.class.getName()
+				+ ".overflowPolicy", overflowPolicy);
+		ByteArrayOutputStream configuration = new ByteArrayOutputStream();
+		properties.store(configuration, null);
+
+		LogManager logManager = LogManager.getLogManager();
+		Level level = logManager.getLogger("").getLevel();
+		Handler[] handlers = logManager.getLogger("").getHandlers();
+		logManager.readConfiguration(new ByteArrayInputStream(configuration
+				.toByteArray()));
+		try {
+			URL classes = AsyncHandler.class.getProtectionDomain()
+					.getCodeSource().getLocation();
+			@SuppressWarnings("resource")
+			ClassLoader loader = new URLClassLoader(new URL[] { classes },
+					ClassLoader.getSystemClassLoader().getParent());
+			return Class.forName(AsyncHandler.class.getName(), true, loader);
+		} finally {
+			restore(logManager, level, handlers);
+		}
+	}
+
+	private static void restore(LogManager logManager, Level level,
+			Handler[] handlers) throws IOException {
+		logManager.readConfiguration();
+		for (Handler handler : logManager.getLogger("").getHandlers())
+			logManager.getLogger("").removeHandler(handler);
+		for (Handler handler : handlers)
+			logManager.getLogger("").addHandler(handler);
+		logManager.getLogger("").setLevel(level);
+		Log.resetLogLevel(null);
+	}
+
+	private static Handler asyncHandler(Class<?> handlerClass, Handler target)
+			throws Exception {
+		return (Handler) handlerClass.getConstructor(Handler.class)
+				.newInstance(target);
+	}
+
+	private static LogRecord record(String message) {
+		return new LogRecord(Level.INFO, message);
+	}
+
+	private static List<String> messages(String prefix, int from, int to) {
+		List<String> result = new ArrayList<String>();
+		for (int i = from; i <= to; i++)
+			result.add(prefix + i);
+		return result;
+	}
+
+	@BeforeClass
+	public void setUp() throws Exception {
+		blockingHandlerClass = loadHandlerClass("BLOCK");
+		droppingHandlerClass = loadHandlerClass("DROP");
+	}
+
+	@Test
+	public void blockPolicyMakesTheLoggingThreadWait() throws Exception {
+		TargetHandler target = new TargetHandler(true);
+		Handler handler = asyncHandler(blockingHandlerClass, target);
+		handler.publish(record("record1"));
+		Assert.assertTrue(target.firstRecord.await(5, TimeUnit.SECONDS));
+
+		Thread logging = new Thread(() -> {
+			for (int i = 2; i <= RECORD_COUNT; i++)
+				handler.publish(record("record" + i));
+		});
+		logging.start();
+		logging.join(500);
+		// the queue is full and the writer is held
+		Assert.assertTrue(logging.isAlive());
+
+		target.release.countDown();
+		logging.join(5000);
+		Assert.assertFalse(logging.isAlive());
+		handler.flush();
+		Assert.assertEquals(target.published, messages("record", 1,
+				RECORD_COUNT));
+	}
+
+	@Test
+	public void dropPolicyDropsRecordsAndReportsTheirNumber() throws Exception {
+		TargetHandler target = new TargetHandler(true);
+		Handler handler = asyncHandler(droppingHandlerClass, target);
+		handler.publish(record("record1"));
+		Assert.assertTrue(target.firstRecord.await(5, TimeUnit.SECONDS));
+
+		// the writer is held so the logging thread doesn't wait
+		for (int i = 2; i <= RECORD_COUNT; i++)
+			handler.publish(record("record" + i));
+		target.release.countDown();
+		handler.flush();
+
+		List<String> expected = messages("record", 1, QUEUE_SIZE + 1);
+		expected.add((RECORD_COUNT - QUEUE_SIZE - 1)
+				+ " log records have been dropped because there were too "
+				+ "many records waiting for the publishing");
+		Assert.assertEquals(target.published, expected);
+	}
+
+	@Test
+	public void flushWaitsForRecordsOfAllHandlersInOrder() throws Exception {
+		List<String> published = Collections
+				.synchronizedList(new ArrayList<String>());
+		TargetHandler first = new TargetHandler(false) {
+			@Override
+			public void publish(LogRecord record) {
+				published.add(record.getMessage());
+			}
+		};
+		TargetHandler second = new TargetHandler(false) {
+			@Override
+			public void publish(LogRecord record) {
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				published.add(record.getMessage());
+			}
+		};
+		Handler firstHandler = asyncHandler(blockingHandlerClass, first);
+		Handler secondHandler = asyncHandler(blockingHandlerClass, second);
+
+		List<String> expected = new ArrayList<String>();
+		for (int i = 1; i <= RECORD_COUNT; i++) {
+			firstHandler.publish(record("first" + i));
+			secondHandler.publish(record("second" + i));
+			expected.addAll(Arrays.asList("first" + i, "second" + i));
+		}
+		// each handler waits for records which were published before
+		firstHandler.flush();
+		Assert.assertEquals(published, expected);
+	}
+
+	@Test
+	public void targetThatThrowsErrorDoesntStopTheWriter() throws Exception {
+		List<Exception> errors = Collections
+				.synchronizedList(new ArrayList<Exception>());
+		List<String> published = Collections
+				.synchronizedList(new ArrayList<String>());
+		Handler target = new TargetHandler(false) {
+			@Override
+			public void publish(LogRecord record) {
+				if ("broken".equals(record.getMessage()))
+					throw new AssertionError("The record can't be published");
+				published.add(record.getMessage());
+			}
+		};
+		Handler handler = asyncHandler(blockingHandlerClass, target);
+		handler.setErrorManager(new ErrorManager() {
+			@Override
+			public synchronized void error(String msg, Exception ex, int code) {
+				Assert.assertEquals(code, ErrorManager.WRITE_FAILURE);
+				errors.add(ex);
+			}
+		});
+
+		handler.publish(record("before"));
+		handler.publish(record("broken"));
+		handler.publish(record("after"));
+		handler.flush();
+
+		Assert.assertEquals(published, Arrays.asList("before", "after"));
+		Assert.assertEquals(errors.size(), 1);
+		Assert.assertTrue(errors.get(0).getCause() instanceof AssertionError);
+	}
+}
@@ -0,0 +1,116 @@
+package com.github.arachnidium.util.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class FlightRecorderTest {
+
+	private final List<String> published = Collections
+			.synchronizedList(new ArrayList<String>());
+
+	private final Handler handler = new Handler() {
+		@Override
+		public void publish(LogRecord record) {
+			published.add(record.getMessage());
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	@BeforeMethod
+	public void setUp() {
+		handler.setLevel(Level.ALL);
+		LogManager.getLogManager().getLogger("").addHandler(handler);
+		// levels of handlers are read again
+		Log.resetLogLevel(null);
+		published.clear();
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		FlightRecorder.discard();
+		FlightRecorder.setUp(0, eAvailableLevels.SEVERE);
+		LogManager.getLogManager().getLogger("").removeHandler(handler);
+		Log.resetLogLevel(null);
+	}
+
+	@Test
+	public void recordsArePublishedWhenTheRecorderIsOff() {
+		Log.message("first");
+		Assert.assertEquals(published, Arrays.asList("first"));
+	}
+
+	@Test
+	public void onlyTheLastRecordsAreKeptUntilTheDump() {
+		FlightRecorder.setUp(3, eAvailableLevels.SEVERE);
+		for (int i = 1; i <= 5; i++)
+			Log.message("record " + i);
+		Assert.assertTrue(published.isEmpty());
+
+		FlightRecorder.dump();
+		Assert.assertEquals(published,
+				Arrays.asList("record 3", "record 4", "record 5"));
+		FlightRecorder.dump();
+		Assert.assertEquals(published.size(), 3);
+	}
+
+	@Test
+	public void recordOfTheDumpLevelPublishesKeptRecords() {
+		FlightRecorder.setUp(10, eAvailableLevels.WARN);
+		Log.message("kept");
+		Log.warning("warning");
+		Assert.assertEquals(published, Arrays.asList("kept", "warning"));
+	}
+
+	@Test
+	public void discardedRecordsAreNotPublished() {
+		FlightRecorder.setUp(10, eAvailableLevels.SEVERE);
+		Log.message("passed test");
+		FlightRecorder.discard();
+		Log.message("failed test");
+		FlightRecorder.dump();
+		Assert.assertEquals(published, Arrays.asList("failed test"));
+	}
+
+	@Test
+	public void keptRecordsArePublishedAfterTheRecorderIsTurnedOff() {
+		FlightRecorder.setUp(10, eAvailableLevels.SEVERE);
+		Log.message("kept");
+		FlightRecorder.setUp(0, eAvailableLevels.SEVERE);
+		Log.message("next");
+		Assert.assertEquals(published, Arrays.asList("kept", "next"));
+	}
+
+	@Test
+	public void eachThreadHasItsOwnRecorder() throws InterruptedException {
+		FlightRecorder.setUp(10, eAvailableLevels.SEVERE);
+		Log.message("kept");
+		Thread other = new Thread(() -> {
+			Assert.assertFalse(FlightRecorder.isKept(eAvailableLevels.INFO));
+			Log.message("other");
+			Log.error("other failure");
+		});
+		other.start();
+		other.join();
+		Assert.assertEquals(published,
+				Arrays.asList("other", "other failure"));
+		Assert.assertTrue(FlightRecorder.isKept(eAvailableLevels.INFO));
+	}
+}
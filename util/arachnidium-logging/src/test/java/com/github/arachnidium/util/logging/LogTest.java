@@ -0,0 +1,85 @@
+package com.github.arachnidium.util.logging;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class LogTest {
+
+	private final Logger rootLogger = LogManager.getLogManager().getLogger("");
+	private Level previousLevel;
+	private Handler[] previousHandlers;
+
+	private final Handler fineHandler = new Handler() {
+		@Override
+		public void publish(LogRecord record) {
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	@BeforeMethod
+	public void setUp() {
+		previousLevel = rootLogger.getLevel();
+		previousHandlers = rootLogger.getHandlers();
+		for (Handler handler : previousHandlers)
+			rootLogger.removeHandler(handler);
+		fineHandler.setLevel(Level.FINE);
+		Log.resetLogLevel(Level.FINE);
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		for (Handler handler : rootLogger.getHandlers())
+			rootLogger.removeHandler(handler);
+		for (Handler handler : previousHandlers)
+			rootLogger.addHandler(handler);
+		Log.resetLogLevel(previousLevel);
+	}
+
+	@Test
+	public void messageIsNotLoggableWithoutHandlers() {
+		Assert.assertFalse(Log.isLoggable(eAvailableLevels.SEVERE));
+	}
+
+	@Test
+	public void addedConverterIsTakenIntoAccount() {
+		Assert.assertFalse(Log.isLoggable(eAvailableLevels.FINE));
+		Log.addConverter(record -> record.getMessage(), fineHandler);
+		Assert.assertTrue(Log.isLoggable(eAvailableLevels.FINE));
+	}
+
+	@Test
+	public void handlerLevelsAreReadAgainWhenTheLevelIsReset() {
+		Log.addConverter(record -> record.getMessage(), fineHandler);
+		Assert.assertTrue(Log.isLoggable(eAvailableLevels.FINE));
+
+		fineHandler.setLevel(Level.WARNING);
+		// levels are cached
+		Assert.assertTrue(Log.isLoggable(eAvailableLevels.FINE));
+		Log.resetLogLevel(Level.FINE);
+		Assert.assertFalse(Log.isLoggable(eAvailableLevels.FINE));
+		Assert.assertTrue(Log.isLoggable(eAvailableLevels.WARN));
+	}
+
+	@Test
+	public void loggerLevelIsCheckedFirst() {
+		Log.addConverter(record -> record.getMessage(), fineHandler);
+		Log.resetLogLevel(Level.INFO);
+		Assert.assertFalse(Log.isLoggable(eAvailableLevels.FINE));
+		Assert.assertTrue(Log.isLoggable(eAvailableLevels.INFO));
+	}
+}